@@ -1,6 +1,22 @@
 package com.accountbook;
 
+import com.accountbook.service.ImportResult;
+import com.accountbook.service.LedgerFederation;
+import com.accountbook.service.LedgerOptions;
+import com.accountbook.service.LedgerService;
 import com.accountbook.ui.CliInterface;
+import com.accountbook.ui.FederatedCli;
+import com.accountbook.ui.HttpApiServer;
+import com.accountbook.ui.ScriptRunner;
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Personal Account Book CLI 프로그램의 메인 애플리케이션 클래스입니다.
@@ -8,24 +24,126 @@ import com.accountbook.ui.CliInterface;
  * - 금융 가계부 항목 추가, 삭제 및 조회
  * - CSV 파일 영속성을 통한 데이터 관리
  * - 직관적인 메뉴 기반 인터페이스를 통한 탐색
- * * 사용법: java com.accountbook.AccountBookApp [파일명]
+ * * 사용법: java com.accountbook.AccountBookApp [--journal] [--snapshot] [--write-behind] [--partitioned] [--pager]
+ *   [--import 원본.csv] [--server [호스트:]포트] [--exec 명령파일 [--commit-every N]] [파일명]
+ *   또는: java com.accountbook.AccountBookApp --federate 파일명1 파일명2 ...
  * 파일명이 제공되지 않으면 기본값인 "ledger.csv"가 사용됩니다.
+ * --journal 옵션을 사용하면 추가/삭제가 저널 파일에 추가 기록되고,
+ * "파일에 저장" 메뉴에서 기본 CSV로 병합됩니다.
+ * --snapshot 옵션을 사용하면 CSV와 함께 바이너리 스냅샷(파일명.snap)을 저장하고,
+ * 스냅샷이 최신이면 시작 시 CSV 대신 스냅샷을 읽습니다.
+ * --write-behind 옵션을 사용하면 변경 사항이 백그라운드에서 모아서 저장되며,
+ * 종료 시 남은 변경 사항이 저장됩니다.
+ * --partitioned 옵션을 사용하면 항목을 연월별 파일(파일명.parts 디렉터리)로 나누어 저장하고,
+ * 필요한 월만 불러오며 변경된 월만 다시 씁니다 (처음 사용할 때 기존 CSV를 나누어 저장).
+ * --federate 옵션을 사용하면 주어진 가계부 파일을 모두 병렬로 불러와 하나처럼 조회하며 (조회 전용),
+ * 결과는 날짜 순으로 병합되고 각 행에 어느 가계부의 항목인지 표시됩니다.
+ * --pager 옵션을 사용하면 조회 결과를 페이지 이동 대신 외부 페이저(PAGER, 기본값 less)로 보여줍니다.
+ * --import 옵션을 사용하면 메뉴 없이 원본 CSV의 항목을 한 번에 가져와 저장한 뒤 종료합니다.
+ * --server 옵션을 사용하면 메뉴 대신 HTTP/JSON API 서버를 실행합니다 (호스트 생략 시 루프백).
+ * 서버 모드에서는 추가/삭제를 모아서 저장하도록 write-behind가 항상 켜집니다.
+ * --exec 옵션을 사용하면 메뉴 없이 명령 파일(-이면 표준 입력)의 명령을 실행하고 끝에서 한 번 저장한 뒤 종료하며,
+ * --commit-every N을 함께 지정하면 N개의 명령마다 저장합니다.
  */
 public class AccountBookApp {
     
     public static void main(String[] args) {
         try {
-            CliInterface cli;
-            
-            // 사용자 지정 파일명이 제공되었는지 확인
-            if (args.length > 0) {
-                String fileName = args[0];
-                System.out.println("사용자 지정 데이터 파일: " + fileName + "을(를) 사용합니다.");
-                cli = new CliInterface(fileName);
-            } else {
-                cli = new CliInterface();
+            LedgerOptions options = new LedgerOptions();
+            String importFile = null;
+            String serverAddress = null;
+            String scriptFile = null;
+            int commitEvery = 0;
+            boolean pager = false;
+            boolean federate = false;
+            List<String> fileNames = new ArrayList<>();
+            
+            // 옵션과 사용자 지정 파일명 분리
+            for (int i = 0; i < args.length; i++) {
+                String arg = args[i];
+                if (arg.equals("--import")) {
+                    if (i + 1 >= args.length) {
+                        System.err.println("--import 옵션에는 가져올 CSV 파일명이 필요합니다.");
+                        System.exit(1);
+                    }
+                    importFile = args[++i];
+                } else if (arg.equals("--server")) {
+                    if (i + 1 >= args.length) {
+                        System.err.println("--server 옵션에는 포트 번호가 필요합니다 (예: 8080 또는 0.0.0.0:8080).");
+                        System.exit(1);
+                    }
+                    serverAddress = args[++i];
+                } else if (arg.equals("--exec")) {
+                    if (i + 1 >= args.length) {
+                        System.err.println("--exec 옵션에는 명령 파일명(표준 입력은 -)이 필요합니다.");
+                        System.exit(1);
+                    }
+                    scriptFile = args[++i];
+                } else if (arg.equals("--commit-every")) {
+                    if (i + 1 >= args.length) {
+                        System.err.println("--commit-every 옵션에는 명령 수가 필요합니다.");
+                        System.exit(1);
+                    }
+                    commitEvery = parseCommitEvery(args[++i]);
+                    if (commitEvery < 0) {
+                        System.err.println("--commit-every 옵션에는 0 이상의 정수가 필요합니다: " + args[i]);
+                        System.err.println("사용법: --exec 명령파일 --commit-every N (N개 명령마다 저장, 0이면 끝에서 한 번만 저장)");
+                        System.exit(1);
+                    }
+                } else if (arg.equals("--journal")) {
+                    options.journalMode(true);
+                } else if (arg.equals("--snapshot")) {
+                    options.snapshotEnabled(true);
+                } else if (arg.equals("--write-behind")) {
+                    options.writeBehind(true);
+                } else if (arg.equals("--partitioned")) {
+                    options.partitioned(true);
+                } else if (arg.equals("--federate")) {
+                    federate = true;
+                } else if (arg.equals("--pager")) {
+                    pager = true;
+                } else {
+                    // 사용자 지정 파일명
+                    System.out.println("사용자 지정 데이터 파일: " + arg + "을(를) 사용합니다.");
+                    options.fileName(arg);
+                    fileNames.add(arg);
+                }
+            }
+            
+            if (federate) {
+                if (fileNames.isEmpty()) {
+                    System.err.println("--federate 옵션에는 가계부 파일명이 하나 이상 필요합니다.");
+                    System.exit(1);
+                }
+                LedgerFederation federation = null;
+                try {
+                    federation = LedgerFederation.open(fileNames, options);
+                } catch (IllegalArgumentException e) {
+                    System.err.println(e.getMessage());
+                    System.exit(1);
+                }
+                FederatedCli cli = new FederatedCli(federation);
+                cli.setPagerEnabled(pager);
+                cli.start();
+                return;
+            }
+            
+            if (importFile != null) {
+                System.exit(runImport(new LedgerService(options), importFile) ? 0 : 1);
+            }
+            
+            if (scriptFile != null) {
+                System.exit(runScript(new LedgerService(options.quietSaves(true)), scriptFile, commitEvery) ? 0 : 1);
             }
             
+            if (serverAddress != null) {
+                runServer(new LedgerService(options.writeBehind(true)), serverAddress);
+                return;
+            }
+            
+            CliInterface cli = new CliInterface(new LedgerService(options));
+            cli.setPagerEnabled(pager);
+            
             // 애플리케이션 시작
             cli.start();
             
@@ -35,4 +153,81 @@ public class AccountBookApp {
             System.exit(1);
         }
     }
+    
+    /**
+     * --commit-every 값을 읽습니다. 정수가 아니면 -1을 반환합니다.
+     */
+    private static int parseCommitEvery(String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+    
+    /**
+     * 명령 파일을 실행합니다. 변경 사항은 끝에서(또는 commitEvery개 명령마다) 한 번에 저장됩니다.
+     */
+    private static boolean runScript(LedgerService ledgerService, String scriptFile, int commitEvery)
+            throws IOException {
+        InputStream in = scriptFile.equals("-") ? System.in : new FileInputStream(scriptFile);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in))) {
+            return new ScriptRunner(ledgerService, commitEvery).run(reader);
+        } finally {
+            ledgerService.close();
+        }
+    }
+    
+    /**
+     * HTTP/JSON API 서버를 시작합니다. 서버 스레드가 프로세스를 유지하며,
+     * 종료 신호를 받으면 진행 중인 요청을 마치고 남은 변경 사항을 저장합니다.
+     */
+    private static void runServer(LedgerService ledgerService, String serverAddress) throws IOException {
+        int colon = serverAddress.lastIndexOf(':');
+        String host = colon >= 0 ? serverAddress.substring(0, colon) : null;
+        int port;
+        try {
+            port = Integer.parseInt(serverAddress.substring(colon + 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("유효하지 않은 포트 번호입니다: " + serverAddress);
+        }
+        InetSocketAddress address = host != null && !host.isEmpty()
+            ? new InetSocketAddress(host, port)
+            : new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+        
+        HttpApiServer server = new HttpApiServer(ledgerService, address);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.stop(2);
+            ledgerService.close();
+        }, "http-shutdown"));
+        server.start();
+        
+        InetSocketAddress bound = server.getAddress();
+        System.out.printf("HTTP API 서버가 http://%s:%d 에서 실행 중입니다 (%s). 종료하려면 Ctrl+C를 누르세요.%n",
+            bound.getHostString(), bound.getPort(),
+            server.isUsingVirtualThreads() ? "가상 스레드" : "스레드 풀");
+    }
+    
+    /**
+     * 대화형 메뉴 없이 대량 가져오기를 실행하고 결과를 출력합니다.
+     */
+    private static boolean runImport(LedgerService ledgerService, String importFile) {
+        ImportResult result = ledgerService.importCsv(importFile);
+        boolean closed = ledgerService.close();
+        if (result == null) {
+            return false;
+        }
+        
+        System.out.printf("%s에서 %d개의 항목을 가져왔습니다 (ID %d-%d, %dms).%n", importFile,
+            result.getImportedCount(), result.getFirstId(), result.getLastId(), result.getElapsedMillis());
+        if (result.getRejectedCount() > 0) {
+            System.out.printf("유효하지 않은 %d개의 행을 건너뛰었습니다. 자세한 내용: %s%n",
+                result.getRejectedCount(), result.getRejectReportFile());
+        }
+        if (!result.isSaved() || !closed) {
+            System.out.println("가져온 항목을 파일에 저장하지 못했습니다.");
+            return false;
+        }
+        return true;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+package com.accountbook.model;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 미리 정의된 가계부 카테고리입니다.
+ * 서수(ordinal)는 인덱스와 바이너리 스냅샷에서 카테고리를 1바이트로 표현하는 데 사용됩니다.
+ */
+public enum Category {
+    FOOD("Food"),
+    TRANSPORT("Transport"),
+    LIVING("Living"),
+    SHOPPING("Shopping"),
+    TRANSFER("Transfer"),
+    HOBBY("Hobby");
+    
+    private static final Category[] VALUES = values();
+    private static final Map<String, Category> BY_NAME = new HashMap<>();
+    
+    static {
+        for (Category category : VALUES) {
+            BY_NAME.put(category.name, category);
+        }
+    }
+    
+    // CSV와 화면에 표시되는 이름
+    private final String name;
+    
+    Category(String name) {
+        this.name = name;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    /**
+     * 표시 이름으로 카테고리를 찾습니다. 없으면 null을 반환합니다.
+     */
+    public static Category fromName(String name) {
+        return name == null ? null : BY_NAME.get(name);
+    }
+    
+    /**
+     * 서수로 카테고리를 찾습니다.
+     */
+    public static Category fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+    
+    /**
+     * 카테고리 개수를 가져옵니다.
+     */
+    public static int count() {
+        return VALUES.length;
+    }
+    
+    @Override
+    public String toString() {
+        return name;
+    }
+}
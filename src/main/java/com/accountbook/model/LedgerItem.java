@@ -1,7 +1,8 @@
 package com.accountbook.model;
 
 import java.time.LocalDate;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -10,10 +11,8 @@ import java.util.List;
  */
 public class LedgerItem {
     
-    // 쉬운 확장을 위해 상수로 미리 정의된 카테고리
-    public static final List<String> VALID_CATEGORIES = Arrays.asList(
-        "Food", "Transport", "Living", "Shopping", "Transfer", "Hobby"
-    );
+    // 쉬운 확장을 위해 상수로 미리 정의된 카테고리 (Category 열거형과 같은 순서)
+    public static final List<String> VALID_CATEGORIES = categoryNames();
     
     // 고유 식별자 (자동 증가)
     private int id;
@@ -97,10 +96,25 @@ public class LedgerItem {
             id, date, category, amount, note != null ? note : "");
     }
     
+    /**
+     * 항목의 카테고리를 열거형으로 가져옵니다. 유효하지 않으면 null을 반환합니다.
+     */
+    public Category getCategoryType() {
+        return Category.fromName(category);
+    }
+    
     /**
      * 카테고리가 미리 정의된 목록에 있는지 유효성을 검사합니다.
      */
     public static boolean isValidCategory(String category) {
-        return VALID_CATEGORIES.contains(category);
+        return Category.fromName(category) != null;
+    }
+    
+    private static List<String> categoryNames() {
+        List<String> names = new ArrayList<>();
+        for (Category category : Category.values()) {
+            names.add(category.getName());
+        }
+        return Collections.unmodifiableList(names);
     }
 }
\ No newline at end of file
@@ -0,0 +1,320 @@
+package com.accountbook.service;
+
+import com.accountbook.util.ValidationUtil;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * 외부 CSV(은행 내보내기 등)를 읽어 ValidationUtil 규칙으로 검증하는 대량 가져오기 도구입니다.
+ * 파일은 줄 단위로 스트리밍하면서 일정 줄 수마다 청크로 묶어 병렬로 검증하며,
+ * 통과한 행은 열 단위 버퍼에 모으고 거부된 행은 줄 번호와 사유를 기록합니다.
+ *
+ * 첫 줄은 헤더이며 date, category, amount 열이 필요하고 note 열은 선택입니다.
+ * 열 순서는 자유이고, 그 밖의 열(id 등)은 무시합니다.
+ */
+public class BulkImporter {
+    
+    private static final int CHUNK_LINES = 8192;
+    private static final String REJECTS_SUFFIX = ".rejects.tsv";
+    private static final Charset FILE_CHARSET = Charset.defaultCharset();
+    
+    private final ForkJoinPool pool;
+    
+    public BulkImporter() {
+        this(ForkJoinPool.commonPool());
+    }
+    
+    public BulkImporter(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+    
+    /**
+     * 파일을 읽고 검증합니다. 헤더에 필요한 열이 없으면 IllegalArgumentException을 던집니다.
+     */
+    public Batch read(String fileName) throws IOException {
+        Batch batch = new Batch();
+        // 동시에 검증 중인 청크 수를 제한하여 메모리 사용량을 묶어 둠
+        int maxInFlight = Math.max(2, pool.getParallelism() * 2);
+        Deque<Future<Chunk>> inFlight = new ArrayDeque<>();
+        
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new FileInputStream(fileName), FILE_CHARSET))) {
+            String headerLine = reader.readLine();
+            if (headerLine == null) {
+                throw new IllegalArgumentException("빈 파일입니다.");
+            }
+            Columns columns = Columns.parse(headerLine);
+            
+            int lineNumber = 2;
+            List<String> lines = new ArrayList<>(CHUNK_LINES);
+            int chunkStart = lineNumber;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+                lineNumber++;
+                if (lines.size() == CHUNK_LINES) {
+                    submit(inFlight, columns, lines, chunkStart, batch, maxInFlight);
+                    lines = new ArrayList<>(CHUNK_LINES);
+                    chunkStart = lineNumber;
+                }
+            }
+            if (!lines.isEmpty()) {
+                submit(inFlight, columns, lines, chunkStart, batch, maxInFlight);
+            }
+            
+            // 남은 청크를 파일 순서대로 합침
+            while (!inFlight.isEmpty()) {
+                batch.append(await(inFlight.removeFirst()));
+            }
+        }
+        return batch;
+    }
+    
+    private void submit(Deque<Future<Chunk>> inFlight, Columns columns, List<String> lines, int firstLine,
+                        Batch batch, int maxInFlight) throws IOException {
+        inFlight.addLast(pool.submit(() -> validate(columns, lines, firstLine)));
+        while (inFlight.size() >= maxInFlight) {
+            batch.append(await(inFlight.removeFirst()));
+        }
+    }
+    
+    private static Chunk await(Future<Chunk> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("가져오기가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            throw new IOException("검증 오류: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+    
+    /**
+     * 청크의 각 줄을 ValidationUtil 규칙으로 검증합니다.
+     * 줄을 나누지 않고 쉼표 위치만 기록한 뒤 범위 기반 검증기로 필드를 읽습니다.
+     */
+    private static Chunk validate(Columns columns, List<String> lines, int firstLine) {
+        Chunk chunk = new Chunk(lines.size());
+        // bounds[f]는 f번째 필드 앞의 쉼표 위치 (첫 필드는 -1, 마지막 경계는 줄 길이)
+        int[] bounds = new int[columns.count + 1];
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (ValidationUtil.trimStart(line, 0, line.length()) == line.length()) {
+                continue;
+            }
+            int lineNumber = firstLine + i;
+            
+            int fields = 0;
+            bounds[0] = -1;
+            for (int comma = line.indexOf(','); comma >= 0; comma = line.indexOf(',', comma + 1)) {
+                if (++fields < columns.count) {
+                    bounds[fields] = comma;
+                }
+            }
+            fields++;
+            if (fields != columns.count) {
+                chunk.reject(lineNumber, String.format("필드 수가 맞지 않습니다: %d개가 필요하지만, %d개가 발견되었습니다.",
+                    columns.count, fields), line);
+                continue;
+            }
+            bounds[fields] = line.length();
+            
+            int epochDay = ValidationUtil.parseDate(line, bounds[columns.date] + 1, bounds[columns.date + 1]);
+            if (epochDay < 0) {
+                chunk.reject(lineNumber, ValidationUtil.dateErrorMessage(epochDay), line);
+                continue;
+            }
+            int category = ValidationUtil.parseCategory(line, bounds[columns.category] + 1,
+                bounds[columns.category + 1]);
+            if (category < 0) {
+                chunk.reject(lineNumber, ValidationUtil.categoryErrorMessage(category), line);
+                continue;
+            }
+            int amount = ValidationUtil.parseAmount(line, bounds[columns.amount] + 1, bounds[columns.amount + 1]);
+            if (amount < 0) {
+                chunk.reject(lineNumber, ValidationUtil.amountErrorMessage(amount), line);
+                continue;
+            }
+            
+            String note = "";
+            if (columns.note >= 0) {
+                int from = ValidationUtil.trimStart(line, bounds[columns.note] + 1, bounds[columns.note + 1]);
+                int to = ValidationUtil.trimEnd(line, from, bounds[columns.note + 1]);
+                int code = ValidationUtil.checkNote(line, from, to);
+                if (code < 0) {
+                    chunk.reject(lineNumber, ValidationUtil.noteErrorMessage(code), line);
+                    continue;
+                }
+                note = line.substring(from, to);
+            }
+            
+            chunk.accept(epochDay, category, amount, note);
+        }
+        return chunk;
+    }
+    
+    /**
+     * 거부된 행을 "원본파일.rejects.tsv"에 기록하고 파일 이름을 반환합니다. 거부된 행이 없으면 null입니다.
+     */
+    public String writeRejects(String sourceFileName, Batch batch) throws IOException {
+        if (batch.rejectLines.isEmpty()) {
+            return null;
+        }
+        
+        String reportName = sourceFileName + REJECTS_SUFFIX;
+        try (Writer writer = new BufferedWriter(
+                new OutputStreamWriter(new FileOutputStream(reportName), FILE_CHARSET))) {
+            writer.write("line\treason\tcontent\n");
+            for (int i = 0; i < batch.rejectLines.size(); i++) {
+                writer.write(batch.rejectLines.get(i) + "\t" + batch.rejectReasons.get(i)
+                    + "\t" + batch.rejectContents.get(i) + "\n");
+            }
+        }
+        return reportName;
+    }
+    
+    /**
+     * 헤더에서 찾은 열 위치입니다.
+     */
+    private static class Columns {
+        int count;
+        int date = -1;
+        int category = -1;
+        int amount = -1;
+        int note = -1;
+        
+        static Columns parse(String headerLine) {
+            Columns columns = new Columns();
+            String[] names = headerLine.split(",", -1);
+            columns.count = names.length;
+            for (int i = 0; i < names.length; i++) {
+                String name = names[i].trim().toLowerCase(Locale.ROOT);
+                // UTF-8 BOM 제거
+                if (i == 0 && name.startsWith("\uFEFF")) {
+                    name = name.substring(1);
+                }
+                if (name.equals("date")) {
+                    columns.date = i;
+                } else if (name.equals("category")) {
+                    columns.category = i;
+                } else if (name.equals("amount")) {
+                    columns.amount = i;
+                } else if (name.equals("note")) {
+                    columns.note = i;
+                }
+            }
+            if (columns.date < 0 || columns.category < 0 || columns.amount < 0) {
+                throw new IllegalArgumentException("헤더에 date, category, amount 열이 필요합니다: " + headerLine);
+            }
+            return columns;
+        }
+    }
+    
+    /**
+     * 청크 하나의 검증 결과입니다.
+     */
+    private static class Chunk {
+        final int[] epochDays;
+        final int[] categories;
+        final int[] amounts;
+        final String[] notes;
+        int size;
+        final List<Integer> rejectLines = new ArrayList<>();
+        final List<String> rejectReasons = new ArrayList<>();
+        final List<String> rejectContents = new ArrayList<>();
+        
+        Chunk(int capacity) {
+            epochDays = new int[capacity];
+            categories = new int[capacity];
+            amounts = new int[capacity];
+            notes = new String[capacity];
+        }
+        
+        void accept(int epochDay, int category, int amount, String note) {
+            epochDays[size] = epochDay;
+            categories[size] = category;
+            amounts[size] = amount;
+            notes[size] = note;
+            size++;
+        }
+        
+        void reject(int lineNumber, String reason, String content) {
+            rejectLines.add(lineNumber);
+            rejectReasons.add(reason);
+            rejectContents.add(content);
+        }
+    }
+    
+    /**
+     * 파일 전체의 검증 결과입니다. 통과한 행은 파일 순서대로 열 단위로 보관합니다.
+     */
+    public static class Batch {
+        private int[] epochDays = new int[CHUNK_LINES];
+        private int[] categories = new int[CHUNK_LINES];
+        private int[] amounts = new int[CHUNK_LINES];
+        private String[] notes = new String[CHUNK_LINES];
+        private int size;
+        private final List<Integer> rejectLines = new ArrayList<>();
+        private final List<String> rejectReasons = new ArrayList<>();
+        private final List<String> rejectContents = new ArrayList<>();
+        
+        void append(Chunk chunk) {
+            if (size + chunk.size > epochDays.length) {
+                int capacity = Math.max(size + chunk.size, epochDays.length * 2);
+                epochDays = Arrays.copyOf(epochDays, capacity);
+                categories = Arrays.copyOf(categories, capacity);
+                amounts = Arrays.copyOf(amounts, capacity);
+                notes = Arrays.copyOf(notes, capacity);
+            }
+            System.arraycopy(chunk.epochDays, 0, epochDays, size, chunk.size);
+            System.arraycopy(chunk.categories, 0, categories, size, chunk.size);
+            System.arraycopy(chunk.amounts, 0, amounts, size, chunk.size);
+            System.arraycopy(chunk.notes, 0, notes, size, chunk.size);
+            size += chunk.size;
+            
+            rejectLines.addAll(chunk.rejectLines);
+            rejectReasons.addAll(chunk.rejectReasons);
+            rejectContents.addAll(chunk.rejectContents);
+        }
+        
+        public int size() {
+            return size;
+        }
+        
+        public int getRejectedCount() {
+            return rejectLines.size();
+        }
+        
+        int epochDay(int row) {
+            return epochDays[row];
+        }
+        
+        int category(int row) {
+            return categories[row];
+        }
+        
+        int amount(int row) {
+            return amounts[row];
+        }
+        
+        String note(int row) {
+            return notes[row];
+        }
+    }
+}
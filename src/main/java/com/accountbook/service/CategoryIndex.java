@@ -0,0 +1,70 @@
+package com.accountbook.service;
+
+import com.accountbook.model.Category;
+import java.util.BitSet;
+
+/**
+ * 카테고리별로 항목 ID를 비트맵(postings)으로 보관하는 인덱스입니다.
+ * 비트 위치가 곧 ID이므로 순회하면 항상 ID 오름차순이 되어 정렬이 필요 없고,
+ * 조회 시 문자열 비교도 하지 않습니다.
+ */
+public class CategoryIndex {
+    
+    private final BitSet[] postings = new BitSet[Category.count()];
+    
+    public CategoryIndex() {
+        for (int i = 0; i < postings.length; i++) {
+            postings[i] = new BitSet();
+        }
+    }
+    
+    /**
+     * 항목을 인덱스에 추가합니다.
+     */
+    public void add(Category category, int id) {
+        postings[category.ordinal()].set(id);
+    }
+    
+    /**
+     * 항목을 인덱스에서 제거합니다.
+     */
+    public void remove(Category category, int id) {
+        postings[category.ordinal()].clear(id);
+    }
+    
+    /**
+     * 카테고리에 속한 항목의 ID를 오름차순으로 가져옵니다.
+     */
+    public int[] ids(Category category) {
+        BitSet bits = postings[category.ordinal()];
+        int[] result = new int[bits.cardinality()];
+        int index = 0;
+        for (int id = bits.nextSetBit(0); id >= 0; id = bits.nextSetBit(id + 1)) {
+            result[index++] = id;
+        }
+        return result;
+    }
+    
+    /**
+     * 카테고리에 속한 항목 수를 가져옵니다.
+     */
+    public int count(Category category) {
+        return postings[category.ordinal()].cardinality();
+    }
+    
+    /**
+     * 카테고리의 ID 비트맵 복사본을 가져옵니다 (다른 조건과 교집합을 구할 때 사용).
+     */
+    public BitSet postings(Category category) {
+        return (BitSet) postings[category.ordinal()].clone();
+    }
+    
+    /**
+     * 모든 항목을 제거합니다.
+     */
+    public void clear() {
+        for (BitSet bits : postings) {
+            bits.clear();
+        }
+    }
+}
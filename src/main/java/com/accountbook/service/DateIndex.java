@@ -0,0 +1,180 @@
+package com.accountbook.service;
+
+import com.accountbook.util.SortedIntList;
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 날짜(epoch-day)별로 항목 ID를 보관하는 정렬된 인덱스입니다.
+ * 범위 조회는 시작 날짜를 이진 탐색한 뒤 해당 구간의 날짜만 순회하므로 전체 항목 수와 관계없이 동작합니다.
+ * ID 순서 결과는 날짜별 정렬 목록을 이어 붙이며, 보통처럼 날짜 순으로 입력되어 ID가 날짜 사이에서
+ * 겹치지 않으면 O(log n + k), 겹치면 d개 날짜 목록을 k-way 병합하여 O(log n + k log d)입니다.
+ */
+public class DateIndex {
+    
+    // 항목이 있는 날짜만 보관 (빈 날짜는 제거)
+    private final TreeMap<Integer, SortedIntList> idsByDay = new TreeMap<>();
+    private int size;
+    
+    /**
+     * 항목을 해당 날짜(epoch-day)에 추가합니다.
+     */
+    public void add(int day, int id) {
+        SortedIntList ids = idsByDay.get(day);
+        if (ids == null) {
+            ids = new SortedIntList();
+            idsByDay.put(day, ids);
+        }
+        ids.add(id);
+        size++;
+    }
+    
+    /**
+     * 항목을 해당 날짜(epoch-day)에서 제거합니다.
+     */
+    public void remove(int day, int id) {
+        SortedIntList ids = idsByDay.get(day);
+        if (ids != null && ids.remove(id)) {
+            size--;
+            if (ids.isEmpty()) {
+                idsByDay.remove(day);
+            }
+        }
+    }
+    
+    /**
+     * 시작일과 종료일(포함) 사이 항목의 ID를 오름차순으로 가져옵니다.
+     */
+    public int[] idsInRange(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            return new int[0];
+        }
+        
+        NavigableMap<Integer, SortedIntList> range = idsByDay.subMap(
+            (int) startDate.toEpochDay(), true, (int) endDate.toEpochDay(), true);
+        
+        // 각 날짜의 첫 ID가 앞 날짜의 마지막 ID보다 크면 이어 붙이기만 해도 ID 순서가 됨
+        int count = 0;
+        int previousLast = Integer.MIN_VALUE;
+        boolean ordered = true;
+        for (SortedIntList ids : range.values()) {
+            count += ids.size();
+            ordered &= ids.get(0) >= previousLast;
+            previousLast = ids.get(ids.size() - 1);
+        }
+        if (!ordered) {
+            return merge(range.values().toArray(new SortedIntList[0]), count);
+        }
+        
+        int[] result = new int[count];
+        int offset = 0;
+        for (SortedIntList ids : range.values()) {
+            offset += ids.copyTo(result, offset);
+        }
+        return result;
+    }
+    
+    /**
+     * 정렬된 목록들을 최소 힙으로 k-way 병합합니다. 힙에는 목록 번호를 두고 각 목록의 현재 값으로 비교합니다.
+     */
+    private static int[] merge(SortedIntList[] lists, int count) {
+        int[] positions = new int[lists.length];
+        int[] heap = new int[lists.length];
+        int heapSize = lists.length;
+        for (int i = 0; i < heapSize; i++) {
+            heap[i] = i;
+        }
+        for (int i = heapSize / 2 - 1; i >= 0; i--) {
+            siftDown(heap, heapSize, i, lists, positions);
+        }
+        
+        int[] result = new int[count];
+        for (int k = 0; k < count; k++) {
+            int top = heap[0];
+            result[k] = lists[top].get(positions[top]++);
+            if (positions[top] == lists[top].size()) {
+                heap[0] = heap[--heapSize];
+            }
+            siftDown(heap, heapSize, 0, lists, positions);
+        }
+        return result;
+    }
+    
+    private static void siftDown(int[] heap, int heapSize, int index, SortedIntList[] lists, int[] positions) {
+        while (true) {
+            int smallest = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < heapSize && head(heap[left], lists, positions) < head(heap[smallest], lists, positions)) {
+                smallest = left;
+            }
+            if (right < heapSize && head(heap[right], lists, positions) < head(heap[smallest], lists, positions)) {
+                smallest = right;
+            }
+            if (smallest == index) {
+                return;
+            }
+            int swap = heap[index];
+            heap[index] = heap[smallest];
+            heap[smallest] = swap;
+            index = smallest;
+        }
+    }
+    
+    private static int head(int list, SortedIntList[] lists, int[] positions) {
+        return lists[list].get(positions[list]);
+    }
+    
+    /**
+     * 시작일과 종료일(포함) 사이 항목의 ID를 비트맵으로 가져옵니다. 정렬이 필요 없습니다.
+     */
+    public BitSet idSetInRange(LocalDate startDate, LocalDate endDate) {
+        return idSetInRange((int) startDate.toEpochDay(), (int) endDate.toEpochDay());
+    }
+    
+    /**
+     * epoch-day 구간 [fromDay, toDay] 항목의 ID를 비트맵으로 가져옵니다.
+     */
+    public BitSet idSetInRange(int fromDay, int toDay) {
+        BitSet result = new BitSet();
+        if (fromDay > toDay) {
+            return result;
+        }
+        
+        for (SortedIntList ids : idsByDay.subMap(fromDay, true, toDay, true).values()) {
+            for (int i = 0; i < ids.size(); i++) {
+                result.set(ids.get(i));
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * epoch-day 구간 [fromDay, toDay]의 항목 수를 가져옵니다 (구간의 날짜 수에 비례).
+     */
+    public int countInRange(int fromDay, int toDay) {
+        if (fromDay > toDay) {
+            return 0;
+        }
+        
+        int count = 0;
+        for (SortedIntList ids : idsByDay.subMap(fromDay, true, toDay, true).values()) {
+            count += ids.size();
+        }
+        return count;
+    }
+    
+    /**
+     * 모든 항목을 제거합니다.
+     */
+    public void clear() {
+        idsByDay.clear();
+        size = 0;
+    }
+    
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,92 @@
+package com.accountbook.service;
+
+import com.accountbook.model.Category;
+import com.accountbook.util.FenwickTree;
+import com.accountbook.util.ValidationUtil;
+import java.time.LocalDate;
+
+/**
+ * 임의의 날짜 구간 합계를 O(log n)에 구하기 위한 접두사 합 인덱스입니다.
+ * 카테고리별 트리와 전체 합계 트리를 두며, 위치는 최소 날짜(2025-10-01)로부터의 일수입니다.
+ *
+ * 최소 날짜 이전의 항목(직접 편집된 CSV 등)은 기준일에서 거꾸로 센 별도 트리에 보관합니다.
+ */
+public class DateSumIndex {
+    
+    private static final int BASE_DAY = (int) ValidationUtil.MIN_DATE.toEpochDay();
+    
+    // 마지막 칸은 전체 합계
+    private final FenwickTree[] forward = new FenwickTree[Category.count() + 1];
+    private final FenwickTree[] backward = new FenwickTree[Category.count() + 1];
+    
+    public DateSumIndex() {
+        for (int i = 0; i < forward.length; i++) {
+            forward[i] = new FenwickTree();
+            backward[i] = new FenwickTree();
+        }
+    }
+    
+    /**
+     * 날짜(epoch-day)와 카테고리에 금액을 더합니다.
+     */
+    public void add(int epochDay, int category, int amount) {
+        update(epochDay, category, amount);
+    }
+    
+    /**
+     * 날짜(epoch-day)와 카테고리에서 금액을 뺍니다.
+     */
+    public void remove(int epochDay, int category, int amount) {
+        update(epochDay, category, -amount);
+    }
+    
+    private void update(int epochDay, int category, long delta) {
+        int total = forward.length - 1;
+        if (epochDay >= BASE_DAY) {
+            forward[category].add(epochDay - BASE_DAY, delta);
+            forward[total].add(epochDay - BASE_DAY, delta);
+        } else {
+            backward[category].add(BASE_DAY - 1 - epochDay, delta);
+            backward[total].add(BASE_DAY - 1 - epochDay, delta);
+        }
+    }
+    
+    /**
+     * 시작일과 종료일(포함) 사이의 금액 합계를 가져옵니다.
+     * category가 null이면 모든 카테고리의 합계입니다.
+     */
+    public long sum(LocalDate startDate, LocalDate endDate, Category category) {
+        if (startDate.isAfter(endDate)) {
+            return 0;
+        }
+        
+        int tree = category != null ? category.ordinal() : forward.length - 1;
+        long start = startDate.toEpochDay();
+        long end = endDate.toEpochDay();
+        
+        long sum = 0;
+        if (end >= BASE_DAY) {
+            sum += forward[tree].rangeSum(offset(Math.max(start, BASE_DAY) - BASE_DAY), offset(end - BASE_DAY));
+        }
+        if (start < BASE_DAY) {
+            // 기준일 이전 구간은 거꾸로 센 위치이므로 시작/끝이 뒤바뀜
+            sum += backward[tree].rangeSum(offset(BASE_DAY - 1 - Math.min(end, BASE_DAY - 1)),
+                offset(BASE_DAY - 1 - start));
+        }
+        return sum;
+    }
+    
+    /**
+     * 모든 합계를 0으로 되돌립니다.
+     */
+    public void clear() {
+        for (int i = 0; i < forward.length; i++) {
+            forward[i].clear();
+            backward[i].clear();
+        }
+    }
+    
+    private static int offset(long days) {
+        return (int) Math.min(days, Integer.MAX_VALUE - 1);
+    }
+}
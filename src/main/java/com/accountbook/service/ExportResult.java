@@ -0,0 +1,39 @@
+package com.accountbook.service;
+
+/**
+ * 내보내기 결과입니다.
+ */
+public class ExportResult {
+    
+    private final long rowCount;
+    private final long bytesWritten;
+    private final long elapsedMillis;
+    
+    ExportResult(long rowCount, long bytesWritten, long elapsedMillis) {
+        this.rowCount = rowCount;
+        this.bytesWritten = bytesWritten;
+        this.elapsedMillis = elapsedMillis;
+    }
+    
+    public long getRowCount() {
+        return rowCount;
+    }
+    
+    /**
+     * 압축 전 기준으로 쓴 바이트 수입니다.
+     */
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+    
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+    
+    /**
+     * 초당 내보낸 행 수입니다.
+     */
+    public long getRowsPerSecond() {
+        return elapsedMillis > 0 ? rowCount * 1000 / elapsedMillis : rowCount;
+    }
+}
@@ -0,0 +1,45 @@
+package com.accountbook.service;
+
+import com.accountbook.model.LedgerItem;
+import java.util.Comparator;
+
+/**
+ * 여러 가계부를 함께 조회한 결과의 한 행입니다. 항목과 그 항목이 나온 가계부 이름을 담습니다.
+ * ID는 가계부마다 따로 발급되므로 (가계부, ID) 쌍이 항목을 구분합니다.
+ */
+public class FederatedItem {
+    
+    /**
+     * 통합 결과의 순서: 날짜, 가계부 순서, ID 순.
+     */
+    static final Comparator<FederatedItem> ORDER = Comparator
+        .comparing((FederatedItem row) -> row.item.getDate())
+        .thenComparingInt(row -> row.sourceIndex)
+        .thenComparingInt(row -> row.item.getId());
+    
+    private final String source;
+    private final int sourceIndex;
+    private final LedgerItem item;
+    
+    FederatedItem(String source, int sourceIndex, LedgerItem item) {
+        this.source = source;
+        this.sourceIndex = sourceIndex;
+        this.item = item;
+    }
+    
+    /**
+     * 항목이 나온 가계부 이름을 가져옵니다.
+     */
+    public String getSource() {
+        return source;
+    }
+    
+    public LedgerItem getItem() {
+        return item;
+    }
+    
+    @Override
+    public String toString() {
+        return source + " | " + item;
+    }
+}
\ No newline at end of file
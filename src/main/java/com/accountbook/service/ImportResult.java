@@ -0,0 +1,64 @@
+package com.accountbook.service;
+
+/**
+ * 대량 가져오기 결과입니다.
+ */
+public class ImportResult {
+    
+    private final int importedCount;
+    private final int rejectedCount;
+    private final int firstId;
+    private final String rejectReportFile;
+    private final boolean saved;
+    private final long elapsedMillis;
+    
+    ImportResult(int importedCount, int rejectedCount, int firstId, String rejectReportFile,
+                 boolean saved, long elapsedMillis) {
+        this.importedCount = importedCount;
+        this.rejectedCount = rejectedCount;
+        this.firstId = firstId;
+        this.rejectReportFile = rejectReportFile;
+        this.saved = saved;
+        this.elapsedMillis = elapsedMillis;
+    }
+    
+    public int getImportedCount() {
+        return importedCount;
+    }
+    
+    public int getRejectedCount() {
+        return rejectedCount;
+    }
+    
+    /**
+     * 가져온 항목에 할당된 첫 ID입니다. ID는 이 값부터 연속으로 할당됩니다.
+     */
+    public int getFirstId() {
+        return firstId;
+    }
+    
+    /**
+     * 가져온 항목에 할당된 마지막 ID입니다 (가져온 항목이 없으면 firstId - 1).
+     */
+    public int getLastId() {
+        return firstId + importedCount - 1;
+    }
+    
+    /**
+     * 거부된 행 보고서 파일 이름입니다 (거부된 행이 없으면 null).
+     */
+    public String getRejectReportFile() {
+        return rejectReportFile;
+    }
+    
+    /**
+     * 가져온 항목이 파일에 저장되었는지 여부입니다.
+     */
+    public boolean isSaved() {
+        return saved;
+    }
+    
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+}
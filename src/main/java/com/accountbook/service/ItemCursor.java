@@ -0,0 +1,118 @@
+package com.accountbook.service;
+
+import com.accountbook.model.LedgerItem;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * 조회 결과를 ID 순서로 한 페이지씩 가져오는 커서입니다.
+ * 현재 페이지의 첫 ID와 마지막 ID만 기억하고(keyset 방식) 페이지마다 필요한 항목만
+ * 만들어내므로 전체 결과 목록을 메모리에 올리지 않습니다.
+ *
+ * 커서는 열 때까지 발급된 가장 큰 ID 이하만 다루므로, 조건이 없는 커서를 포함해
+ * 이후 새로 추가된 항목은 포함하지 않습니다. 조건(날짜 범위, 카테고리)도 커서를 열 때의
+ * ID 집합으로 고정되며, 이후 삭제된 항목은 페이지에서 건너뜁니다.
+ * 전체 항목 수는 처음 요청할 때 한 번만 세므로 그 뒤의 삭제는 반영하지 않습니다.
+ */
+public class ItemCursor {
+    
+    private final LedgerService service;
+    private final BitSet matches;
+    private final int pageSize;
+    
+    // 커서를 열 때까지 발급된 가장 큰 ID (이후 추가된 항목은 더 큰 ID를 받으므로 제외됨)
+    private final int maxId;
+    
+    // 조건에 맞는 전체 항목 수 (아직 세지 않았으면 -1)
+    private int totalCount = -1;
+    
+    // 현재 페이지 경계 (아직 페이지를 가져오지 않았으면 -1)
+    private int firstId = -1;
+    private int lastId = -1;
+    private int pageNumber;
+    
+    ItemCursor(LedgerService service, BitSet matches, int maxId, int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상이어야 합니다: " + pageSize);
+        }
+        this.service = service;
+        this.matches = matches;
+        this.maxId = maxId;
+        this.pageSize = pageSize;
+    }
+    
+    /**
+     * 다음 페이지를 가져옵니다. 더 이상 없으면 빈 목록을 반환하고 위치는 그대로 둡니다.
+     */
+    public List<LedgerItem> nextPage() {
+        List<LedgerItem> page = service.itemsAfter(matches, lastId, maxId, pageSize);
+        if (!page.isEmpty()) {
+            moveTo(page);
+            pageNumber++;
+        }
+        return page;
+    }
+    
+    /**
+     * 이전 페이지를 가져옵니다. 더 이상 없으면 빈 목록을 반환하고 위치는 그대로 둡니다.
+     */
+    public List<LedgerItem> previousPage() {
+        if (firstId < 0) {
+            return new ArrayList<>();
+        }
+        List<LedgerItem> page = service.itemsBefore(matches, firstId, pageSize);
+        if (!page.isEmpty()) {
+            moveTo(page);
+            pageNumber = Math.max(1, pageNumber - 1);
+        }
+        return page;
+    }
+    
+    /**
+     * 현재 페이지 다음에 항목이 더 있는지 확인합니다.
+     */
+    public boolean hasNextPage() {
+        return !service.itemsAfter(matches, lastId, maxId, 1).isEmpty();
+    }
+    
+    /**
+     * 현재 페이지 앞에 항목이 더 있는지 확인합니다.
+     */
+    public boolean hasPreviousPage() {
+        return firstId > 0 && !service.itemsBefore(matches, firstId, 1).isEmpty();
+    }
+    
+    /**
+     * 현재 페이지 번호를 가져옵니다 (1부터 시작, 아직 가져오지 않았으면 0).
+     */
+    public int getPageNumber() {
+        return pageNumber;
+    }
+    
+    /**
+     * 조건에 맞는 전체 항목 수를 가져옵니다. 페이지마다 다시 세지 않도록 처음 센 값을 재사용합니다.
+     */
+    public int getTotalCount() {
+        if (totalCount < 0) {
+            totalCount = service.countMatches(matches, maxId);
+        }
+        return totalCount;
+    }
+    
+    /**
+     * 전체 페이지 수를 가져옵니다.
+     */
+    public int getTotalPages() {
+        return (getTotalCount() + pageSize - 1) / pageSize;
+    }
+    
+    public int getPageSize() {
+        return pageSize;
+    }
+    
+    private void moveTo(List<LedgerItem> page) {
+        firstId = page.get(0).getId();
+        lastId = page.get(page.size() - 1).getId();
+    }
+}
@@ -0,0 +1,142 @@
+package com.accountbook.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * 저장소 전체를 fork-join으로 나누어 그룹별로 집계하는 분석 엔진입니다.
+ * 각 작업은 자기 슬롯 구간을 자기 누적기(맵)에만 모으고, 결과는 합쳐질 때 병합되므로
+ * 작업 사이에 공유되는 잠금이나 동시성 컬렉션이 없습니다.
+ *
+ * 집계 중 저장소가 바뀌지 않도록 호출하는 쪽(LedgerService)이 쓰기를 막아야 합니다.
+ */
+public class LedgerAnalytics {
+    
+    // 이 행 수 이하의 구간은 더 나누지 않고 순차 처리
+    public static final int DEFAULT_SEQUENTIAL_THRESHOLD = 1 << 13;
+    
+    private final LedgerStore store;
+    private final ForkJoinPool pool;
+    
+    public LedgerAnalytics(LedgerStore store) {
+        this(store, ForkJoinPool.commonPool());
+    }
+    
+    public LedgerAnalytics(LedgerStore store, ForkJoinPool pool) {
+        this.store = store;
+        this.pool = pool;
+    }
+    
+    /**
+     * 모든 행을 key로 묶고 reducer로 집계합니다.
+     *
+     * @param key 행의 그룹 키를 계산하는 함수
+     * @param reducer 그룹별 누적기를 만들고 합치는 수집기 (예: Collectors.summingLong)
+     * @param sequentialThreshold 이 행 수 이하이면 나누지 않고 순차 처리
+     */
+    public <K, A, R> Map<K, R> groupBy(Function<? super LedgerRow, ? extends K> key,
+                                       Collector<? super LedgerRow, A, R> reducer,
+                                       int sequentialThreshold) {
+        int threshold = Math.max(1, sequentialThreshold);
+        GroupTask<K, A> root = new GroupTask<>(key, reducer, 0, store.size(), threshold);
+        Map<K, A> partial = store.size() <= threshold ? root.compute() : pool.invoke(root);
+        
+        return finish(partial, reducer);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static <K, A, R> Map<K, R> finish(Map<K, A> partial, Collector<?, A, R> reducer) {
+        if (reducer.characteristics().contains(Collector.Characteristics.IDENTITY_FINISH)) {
+            return (Map<K, R>) partial;
+        }
+        Map<K, R> result = new HashMap<>(partial.size() * 2);
+        for (Map.Entry<K, A> entry : partial.entrySet()) {
+            result.put(entry.getKey(), reducer.finisher().apply(entry.getValue()));
+        }
+        return result;
+    }
+    
+    /**
+     * 슬롯 구간 [from, to)를 집계하는 작업입니다. 구간이 크면 반으로 나눕니다.
+     */
+    private class GroupTask<K, A> extends RecursiveTask<Map<K, A>> {
+        private static final long serialVersionUID = 1L;
+        
+        private final Function<? super LedgerRow, ? extends K> key;
+        private final Collector<? super LedgerRow, A, ?> reducer;
+        private final int from;
+        private final int to;
+        private final int threshold;
+        
+        GroupTask(Function<? super LedgerRow, ? extends K> key, Collector<? super LedgerRow, A, ?> reducer,
+                  int from, int to, int threshold) {
+            this.key = key;
+            this.reducer = reducer;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+        
+        @Override
+        protected Map<K, A> compute() {
+            if (to - from <= threshold) {
+                return computeSequentially();
+            }
+            
+            int mid = (from + to) >>> 1;
+            GroupTask<K, A> left = new GroupTask<>(key, reducer, from, mid, threshold);
+            GroupTask<K, A> right = new GroupTask<>(key, reducer, mid, to, threshold);
+            left.fork();
+            Map<K, A> rightResult = right.compute();
+            return merge(left.join(), rightResult);
+        }
+        
+        private Map<K, A> computeSequentially() {
+            Supplier<A> supplier = reducer.supplier();
+            BiConsumer<A, ? super LedgerRow> accumulator = reducer.accumulator();
+            Map<K, A> groups = new HashMap<>();
+            LedgerRow row = new LedgerRow(store);
+            
+            for (int slot = from; slot < to; slot++) {
+                row.moveTo(slot);
+                K group = key.apply(row);
+                A container = groups.get(group);
+                if (container == null) {
+                    container = supplier.get();
+                    groups.put(group, container);
+                }
+                accumulator.accept(container, row);
+            }
+            return groups;
+        }
+        
+        /**
+         * 두 부분 결과를 합칩니다. 큰 맵에 작은 맵을 병합합니다.
+         */
+        private Map<K, A> merge(Map<K, A> left, Map<K, A> right) {
+            Map<K, A> target = left.size() >= right.size() ? left : right;
+            Map<K, A> source = target == left ? right : left;
+            BinaryOperator<A> combiner = reducer.combiner();
+            
+            for (Map.Entry<K, A> entry : source.entrySet()) {
+                A existing = target.get(entry.getKey());
+                if (existing == null && !target.containsKey(entry.getKey())) {
+                    target.put(entry.getKey(), entry.getValue());
+                } else if (target == left) {
+                    target.put(entry.getKey(), combiner.apply(existing, entry.getValue()));
+                } else {
+                    // 순서를 지키기 위해 항상 왼쪽 누적기를 먼저 둠
+                    target.put(entry.getKey(), combiner.apply(entry.getValue(), existing));
+                }
+            }
+            return target;
+        }
+    }
+}
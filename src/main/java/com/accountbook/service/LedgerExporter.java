@@ -0,0 +1,118 @@
+package com.accountbook.service;
+
+import com.accountbook.model.Category;
+import com.accountbook.util.CsvChannelWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.PrimitiveIterator;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 저장소의 행을 CSV 또는 JSON으로 스트리밍하여 내보내는 도구입니다.
+ * 행마다 LedgerItem이나 중간 문자열을 만들지 않고 열 값을 다이렉트 버퍼에 바로 씁니다.
+ * 파일 이름과 무관하게 gzip 압축을 선택할 수 있습니다.
+ */
+public class LedgerExporter {
+    
+    /**
+     * 내보내기 형식입니다.
+     */
+    public enum Format {
+        CSV,
+        JSON
+    }
+    
+    private static final String CSV_HEADER = "id,date,category,amount,note";
+    private static final int GZIP_BUFFER_SIZE = 1 << 16;
+    
+    private final LedgerStore store;
+    
+    public LedgerExporter(LedgerStore store) {
+        this.store = store;
+    }
+    
+    /**
+     * 주어진 ID 순서대로 행을 파일에 씁니다. CSV는 가계부 파일과 같은 문자 집합, JSON은 UTF-8입니다.
+     * 호출하는 쪽이 쓰는 동안 저장소 변경을 막아야 합니다.
+     */
+    public ExportResult export(PrimitiveIterator.OfInt ids, String fileName, Format format, boolean gzip)
+            throws IOException {
+        long started = System.nanoTime();
+        Charset charset = format == Format.JSON ? StandardCharsets.UTF_8 : Charset.defaultCharset();
+        byte[][] categoryNames = categoryNames(charset);
+        
+        long rows = 0;
+        long bytes;
+        try (OutputStream file = new FileOutputStream(fileName);
+             OutputStream out = gzip ? new GZIPOutputStream(file, GZIP_BUFFER_SIZE) : file;
+             WritableByteChannel channel = Channels.newChannel(out)) {
+            CsvChannelWriter writer = new CsvChannelWriter(channel, charset);
+            
+            if (format == Format.CSV) {
+                writer.writeAscii(CSV_HEADER).newLine();
+            } else {
+                writer.writeByte('[').newLine();
+            }
+            
+            while (ids.hasNext()) {
+                int slot = store.slotOf(ids.nextInt());
+                if (slot < 0) {
+                    continue;
+                }
+                if (format == Format.CSV) {
+                    writeCsvRow(writer, slot, categoryNames);
+                } else {
+                    if (rows > 0) {
+                        writer.writeByte(',').newLine();
+                    }
+                    writeJsonRow(writer, slot, categoryNames);
+                }
+                rows++;
+            }
+            
+            if (format == Format.JSON) {
+                if (rows > 0) {
+                    writer.newLine();
+                }
+                writer.writeByte(']').newLine();
+            }
+            writer.close();
+            bytes = writer.getBytesWritten();
+        }
+        
+        return new ExportResult(rows, bytes, (System.nanoTime() - started) / 1_000_000);
+    }
+    
+    private void writeCsvRow(CsvChannelWriter writer, int slot, byte[][] categoryNames) throws IOException {
+        writer.writeInt(store.id(slot)).writeByte(',')
+            .writeDate(LocalDate.ofEpochDay(store.epochDay(slot))).writeByte(',')
+            .writeBytes(categoryNames[store.category(slot)]).writeByte(',')
+            .writeInt(store.amount(slot)).writeByte(',')
+            .writeString(store.note(slot))
+            .newLine();
+    }
+    
+    private void writeJsonRow(CsvChannelWriter writer, int slot, byte[][] categoryNames) throws IOException {
+        writer.writeAscii("{\"id\":").writeInt(store.id(slot))
+            .writeAscii(",\"date\":\"").writeDate(LocalDate.ofEpochDay(store.epochDay(slot)))
+            .writeAscii("\",\"category\":\"").writeBytes(categoryNames[store.category(slot)])
+            .writeAscii("\",\"amount\":").writeInt(store.amount(slot))
+            .writeAscii(",\"note\":\"").writeJsonString(store.note(slot))
+            .writeAscii("\"}");
+    }
+    
+    private static byte[][] categoryNames(Charset charset) {
+        Category[] categories = Category.values();
+        byte[][] names = new byte[categories.length][];
+        for (int i = 0; i < categories.length; i++) {
+            names[i] = categories[i].getName().getBytes(charset);
+        }
+        return names;
+    }
+}
@@ -0,0 +1,350 @@
+package com.accountbook.service;
+
+import com.accountbook.model.Category;
+import com.accountbook.model.LedgerItem;
+import com.accountbook.util.PartitionedCsvStore;
+import java.io.File;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * 여러 가계부 파일(예: 가족 구성원별, 연도별)을 한꺼번에 열어 하나처럼 조회합니다.
+ *
+ * 파일마다 하나의 작업으로 병렬로 불러오며, 조회도 가계부마다 하나의 작업으로 실행해
+ * 각 결과를 (날짜, 가계부 순서, ID) 순으로 정렬한 뒤 k-way 병합합니다.
+ * 결과의 각 행에는 어느 가계부에서 나왔는지 표시됩니다. 조회 전용이며 항목을 변경하지 않습니다.
+ */
+public class LedgerFederation {
+    
+    private final List<LedgerService> ledgers;
+    private final List<String> names;
+    private final ExecutorService executor;
+    
+    private LedgerFederation(List<LedgerService> ledgers, List<String> names, ExecutorService executor) {
+        this.ledgers = ledgers;
+        this.names = names;
+        this.executor = executor;
+    }
+    
+    /**
+     * 가계부 파일들을 읽기 전용으로 병렬로 불러옵니다. 나머지 설정(분할 저장 등)은 모든 파일에 같이 적용되며,
+     * 불러오는 동안 분할 변환, 스냅샷 생성, 임시 파일 정리 등 어떤 파일도 바꾸지 않습니다.
+     * 없는 파일이 있으면 IllegalArgumentException을, 하나라도 불러오지 못하면 IllegalStateException을 던집니다.
+     */
+    public static LedgerFederation open(List<String> fileNames, LedgerOptions options) {
+        if (fileNames.isEmpty()) {
+            throw new IllegalArgumentException("가계부 파일이 하나 이상 필요합니다.");
+        }
+        
+        // 잘못 입력한 파일명이 빈 가계부로 조용히 합쳐지지 않도록 먼저 확인
+        List<String> missing = new ArrayList<>();
+        for (String fileName : fileNames) {
+            boolean exists = new File(fileName).exists()
+                || (options.isPartitioned() && new PartitionedCsvStore(fileName).exists());
+            if (!exists) {
+                missing.add(fileName);
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("가계부 파일을 찾을 수 없습니다: " + String.join(", ", missing));
+        }
+        
+        int threads = Math.min(fileNames.size(), Runtime.getRuntime().availableProcessors());
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(task, "ledger-federation-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        
+        List<Callable<LedgerService>> loads = new ArrayList<>(fileNames.size());
+        for (String fileName : fileNames) {
+            LedgerOptions ledgerOptions = options.copy().fileName(fileName).readOnly(true);
+            loads.add(() -> new LedgerService(ledgerOptions));
+        }
+        
+        try {
+            List<LedgerService> ledgers = collect(executor.invokeAll(loads));
+            return new LedgerFederation(ledgers, sourceNames(fileNames), executor);
+        } catch (RuntimeException | InterruptedException e) {
+            executor.shutdownNow();
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IllegalStateException("가계부를 불러오지 못했습니다: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * 파일 이름을 가계부 이름으로 사용합니다. 디렉터리만 다른 같은 이름이 있으면 경로 전체를 씁니다.
+     */
+    private static List<String> sourceNames(List<String> fileNames) {
+        List<String> names = new ArrayList<>(fileNames.size());
+        Set<String> seen = new HashSet<>();
+        Set<String> duplicates = new HashSet<>();
+        for (String fileName : fileNames) {
+            String name = new File(fileName).getName();
+            if (!seen.add(name)) {
+                duplicates.add(name);
+            }
+        }
+        for (String fileName : fileNames) {
+            String name = new File(fileName).getName();
+            names.add(duplicates.contains(name) ? fileName : name);
+        }
+        return names;
+    }
+    
+    /**
+     * 가계부 이름을 여는 순서대로 가져옵니다.
+     */
+    public List<String> getSourceNames() {
+        return Collections.unmodifiableList(names);
+    }
+    
+    public int getLedgerCount() {
+        return ledgers.size();
+    }
+    
+    /**
+     * 모든 가계부의 항목 수 합계를 가져옵니다.
+     */
+    public int getItemCount() {
+        int count = 0;
+        for (LedgerService ledger : ledgers) {
+            count += ledger.getItemCount();
+        }
+        return count;
+    }
+    
+    /**
+     * 가계부별 항목 수를 가져옵니다 (여는 순서).
+     */
+    public List<Integer> getItemCounts() {
+        List<Integer> counts = new ArrayList<>(ledgers.size());
+        for (LedgerService ledger : ledgers) {
+            counts.add(ledger.getItemCount());
+        }
+        return counts;
+    }
+    
+    /**
+     * 모든 가계부의 항목을 날짜 순으로 가져옵니다.
+     */
+    public List<FederatedItem> getAllItems() {
+        return mergeAll(LedgerService::getAllItems);
+    }
+    
+    /**
+     * 모든 가계부에서 날짜 범위 내의 항목을 날짜 순으로 가져옵니다.
+     */
+    public List<FederatedItem> getItemsByDateRange(LocalDate startDate, LocalDate endDate) {
+        return mergeAll(ledger -> ledger.getItemsByDateRange(startDate, endDate));
+    }
+    
+    /**
+     * 모든 가계부에서 카테고리의 항목을 날짜 순으로 가져옵니다.
+     */
+    public List<FederatedItem> getItemsByCategory(Category category) {
+        return mergeAll(ledger -> ledger.getItemsByCategory(category));
+    }
+    
+    /**
+     * 어느 가계부에든 항목이 있는 연월을 오름차순으로 가져옵니다 (가계부별 목록을 병합).
+     */
+    public List<YearMonth> getSummaryMonths() {
+        List<List<YearMonth>> perLedger = runAll(index -> ledgers.get(index).getSummaryMonths());
+        PriorityQueue<Head<YearMonth>> heads = new PriorityQueue<>(
+            (a, b) -> a.current().compareTo(b.current()));
+        for (List<YearMonth> months : perLedger) {
+            if (!months.isEmpty()) {
+                heads.add(new Head<>(months, 0));
+            }
+        }
+        
+        List<YearMonth> merged = new ArrayList<>();
+        while (!heads.isEmpty()) {
+            Head<YearMonth> head = heads.poll();
+            YearMonth month = head.current();
+            if (merged.isEmpty() || !merged.get(merged.size() - 1).equals(month)) {
+                merged.add(month);
+            }
+            if (head.advance()) {
+                heads.add(head);
+            }
+        }
+        return merged;
+    }
+    
+    /**
+     * 연월 전체의 집계를 가계부별로 가져옵니다 (여는 순서).
+     */
+    public List<RollupEngine.Summary> getMonthSummaries(YearMonth yearMonth) {
+        List<RollupEngine.Summary> summaries = new ArrayList<>(ledgers.size());
+        for (LedgerService ledger : ledgers) {
+            summaries.add(ledger.getMonthSummary(yearMonth));
+        }
+        return summaries;
+    }
+    
+    /**
+     * 모든 가계부를 합친 연월 집계를 가져옵니다.
+     */
+    public RollupEngine.Summary getMonthSummary(YearMonth yearMonth) {
+        return combine(getMonthSummaries(yearMonth));
+    }
+    
+    /**
+     * 모든 가계부를 합친 연월, 카테고리 집계를 가져옵니다.
+     */
+    public RollupEngine.Summary getSummary(YearMonth yearMonth, Category category) {
+        List<RollupEngine.Summary> summaries = new ArrayList<>(ledgers.size());
+        for (LedgerService ledger : ledgers) {
+            summaries.add(ledger.getSummary(yearMonth, category));
+        }
+        return combine(summaries);
+    }
+    
+    /**
+     * 모든 가계부에서 시작일과 종료일(포함) 사이의 금액 합계를 가져옵니다.
+     */
+    public long getTotalAmount(LocalDate startDate, LocalDate endDate, Category category) {
+        long total = 0;
+        for (LedgerService ledger : ledgers) {
+            total += ledger.getTotalAmount(startDate, endDate, category);
+        }
+        return total;
+    }
+    
+    /**
+     * 모든 가계부를 닫고 작업 스레드를 종료합니다.
+     */
+    public boolean close() {
+        boolean closed = true;
+        for (LedgerService ledger : ledgers) {
+            closed &= ledger.close();
+        }
+        executor.shutdown();
+        return closed;
+    }
+    
+    /**
+     * 가계부마다 하나의 작업으로 조회하고 정렬한 뒤, 정렬된 결과를 힙으로 k-way 병합합니다.
+     */
+    private List<FederatedItem> mergeAll(Function<LedgerService, List<LedgerItem>> query) {
+        List<List<FederatedItem>> perLedger = runAll(index -> {
+            List<LedgerItem> items = query.apply(ledgers.get(index));
+            List<FederatedItem> rows = new ArrayList<>(items.size());
+            for (LedgerItem item : items) {
+                rows.add(new FederatedItem(names.get(index), index, item));
+            }
+            rows.sort(FederatedItem.ORDER);
+            return rows;
+        });
+        
+        int total = 0;
+        PriorityQueue<Head<FederatedItem>> heads = new PriorityQueue<>(Math.max(1, perLedger.size()),
+            (a, b) -> FederatedItem.ORDER.compare(a.current(), b.current()));
+        for (List<FederatedItem> rows : perLedger) {
+            total += rows.size();
+            if (!rows.isEmpty()) {
+                heads.add(new Head<>(rows, 0));
+            }
+        }
+        
+        List<FederatedItem> merged = new ArrayList<>(total);
+        while (!heads.isEmpty()) {
+            Head<FederatedItem> head = heads.poll();
+            merged.add(head.current());
+            if (head.advance()) {
+                heads.add(head);
+            }
+        }
+        return merged;
+    }
+    
+    /**
+     * 가계부마다 하나의 작업(인자는 가계부 순서)을 실행하고 결과를 여는 순서대로 모읍니다.
+     */
+    private <T> List<T> runAll(IntFunction<T> task) {
+        List<Callable<T>> tasks = new ArrayList<>(ledgers.size());
+        for (int i = 0; i < ledgers.size(); i++) {
+            int index = i;
+            tasks.add(() -> task.apply(index));
+        }
+        try {
+            return collect(executor.invokeAll(tasks));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("조회가 중단되었습니다.", e);
+        }
+    }
+    
+    private static <T> List<T> collect(List<Future<T>> futures) throws InterruptedException {
+        List<T> results = new ArrayList<>(futures.size());
+        for (Future<T> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                throw cause instanceof RuntimeException
+                    ? (RuntimeException) cause
+                    : new IllegalStateException(cause);
+            }
+        }
+        return results;
+    }
+    
+    private static RollupEngine.Summary combine(List<RollupEngine.Summary> summaries) {
+        long sum = 0;
+        int count = 0;
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (RollupEngine.Summary summary : summaries) {
+            if (summary.getCount() == 0) {
+                continue;
+            }
+            sum += summary.getSum();
+            count += summary.getCount();
+            min = Math.min(min, summary.getMin());
+            max = Math.max(max, summary.getMax());
+        }
+        return count == 0 ? RollupEngine.Summary.EMPTY : new RollupEngine.Summary(sum, count, min, max);
+    }
+    
+    /**
+     * k-way 병합에서 한 정렬 목록의 현재 위치입니다.
+     */
+    private static class Head<T> {
+        
+        private final List<T> list;
+        private int index;
+        
+        Head(List<T> list, int index) {
+            this.list = list;
+            this.index = index;
+        }
+        
+        T current() {
+            return list.get(index);
+        }
+        
+        boolean advance() {
+            return ++index < list.size();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,131 @@
+package com.accountbook.service;
+
+/**
+ * LedgerService의 영속성 동작을 선택하기 위한 설정 클래스입니다.
+ */
+public class LedgerOptions {
+    
+    private static final String DEFAULT_FILE_NAME = "ledger.csv";
+    private static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 1000;
+    private static final int DEFAULT_FLUSH_BATCH_SIZE = 500;
+    
+    private String fileName = DEFAULT_FILE_NAME;
+    
+    // 추가/삭제를 전체 파일 재작성 대신 저널에 추가 기록
+    private boolean journalMode;
+    
+    // CSV와 함께 바이너리 스냅샷을 저장하고, 최신이면 스냅샷에서 불러옴
+    private boolean snapshotEnabled;
+    
+    // 변경을 메모리에 먼저 반영하고 백그라운드에서 모아서 저장
+    private boolean writeBehind;
+    private long flushIntervalMillis = DEFAULT_FLUSH_INTERVAL_MILLIS;
+    private int flushBatchSize = DEFAULT_FLUSH_BATCH_SIZE;
+    
+    // 연월별 세그먼트 파일로 나누어 저장하고 필요한 월만 불러옴 (저널, 스냅샷 설정은 무시)
+    private boolean partitioned;
+    
+    // 저장 완료 메시지를 출력하지 않음 (표준 출력을 데이터 전용으로 쓰는 스크립트 모드용)
+    private boolean quietSaves;
+    
+    // 파일을 읽기만 하고 어떤 파일도 만들거나 지우지 않음 (통합 조회용, 저장은 모두 실패로 처리)
+    private boolean readOnly;
+    
+    /**
+     * 같은 설정을 가진 복사본을 만듭니다 (여러 가계부에 같은 설정을 적용할 때 사용).
+     */
+    public LedgerOptions copy() {
+        LedgerOptions copy = new LedgerOptions();
+        copy.fileName = fileName;
+        copy.journalMode = journalMode;
+        copy.snapshotEnabled = snapshotEnabled;
+        copy.writeBehind = writeBehind;
+        copy.flushIntervalMillis = flushIntervalMillis;
+        copy.flushBatchSize = flushBatchSize;
+        copy.partitioned = partitioned;
+        copy.quietSaves = quietSaves;
+        copy.readOnly = readOnly;
+        return copy;
+    }
+    
+    public String getFileName() {
+        return fileName;
+    }
+    
+    public LedgerOptions fileName(String fileName) {
+        this.fileName = fileName;
+        return this;
+    }
+    
+    public boolean isJournalMode() {
+        return journalMode;
+    }
+    
+    public LedgerOptions journalMode(boolean journalMode) {
+        this.journalMode = journalMode;
+        return this;
+    }
+    
+    public boolean isSnapshotEnabled() {
+        return snapshotEnabled;
+    }
+    
+    public LedgerOptions snapshotEnabled(boolean snapshotEnabled) {
+        this.snapshotEnabled = snapshotEnabled;
+        return this;
+    }
+    
+    public boolean isWriteBehind() {
+        return writeBehind;
+    }
+    
+    public LedgerOptions writeBehind(boolean writeBehind) {
+        this.writeBehind = writeBehind;
+        return this;
+    }
+    
+    public long getFlushIntervalMillis() {
+        return flushIntervalMillis;
+    }
+    
+    public LedgerOptions flushIntervalMillis(long flushIntervalMillis) {
+        this.flushIntervalMillis = flushIntervalMillis;
+        return this;
+    }
+    
+    public int getFlushBatchSize() {
+        return flushBatchSize;
+    }
+    
+    public LedgerOptions flushBatchSize(int flushBatchSize) {
+        this.flushBatchSize = flushBatchSize;
+        return this;
+    }
+    
+    public boolean isPartitioned() {
+        return partitioned;
+    }
+    
+    public LedgerOptions partitioned(boolean partitioned) {
+        this.partitioned = partitioned;
+        return this;
+    }
+    
+    public boolean isQuietSaves() {
+        return quietSaves;
+    }
+    
+    public LedgerOptions quietSaves(boolean quietSaves) {
+        this.quietSaves = quietSaves;
+        return this;
+    }
+    
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+    
+    public LedgerOptions readOnly(boolean readOnly) {
+        this.readOnly = readOnly;
+        return this;
+    }
+}
@@ -0,0 +1,122 @@
+package com.accountbook.service;
+
+import com.accountbook.model.Category;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 여러 조건을 함께 담는 복합 조회 객체입니다. 설정하지 않은 조건은 적용되지 않습니다.
+ * 실행 방법(어느 인덱스를 쓸지)은 QueryEngine이 결정합니다.
+ */
+public class LedgerQuery {
+    
+    // 날짜 범위 (null이면 해당 방향으로 제한 없음)
+    private LocalDate startDate;
+    private LocalDate endDate;
+    
+    // 비어 있으면 모든 카테고리
+    private final EnumSet<Category> categories = EnumSet.noneOf(Category.class);
+    
+    // 금액 범위 (포함)
+    private int minAmount = Integer.MIN_VALUE;
+    private int maxAmount = Integer.MAX_VALUE;
+    
+    // 메모 검색어 (공백으로 구분된 모든 단어를 포함)
+    private String noteText;
+    
+    // 결과 개수 제한 (0이면 제한 없음)
+    private int limit;
+    
+    // 금액이 큰 순서로 상위 K개만 (0이면 사용하지 않음)
+    private int topK;
+    
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+    
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+    
+    public LedgerQuery dateRange(LocalDate startDate, LocalDate endDate) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        return this;
+    }
+    
+    public boolean hasDateRange() {
+        return startDate != null || endDate != null;
+    }
+    
+    public Set<Category> getCategories() {
+        return EnumSet.copyOf(categories);
+    }
+    
+    public LedgerQuery category(Category category) {
+        categories.add(category);
+        return this;
+    }
+    
+    public LedgerQuery categories(Collection<Category> categories) {
+        this.categories.addAll(categories);
+        return this;
+    }
+    
+    public boolean hasCategories() {
+        return !categories.isEmpty();
+    }
+    
+    public int getMinAmount() {
+        return minAmount;
+    }
+    
+    public int getMaxAmount() {
+        return maxAmount;
+    }
+    
+    public LedgerQuery amountRange(int minAmount, int maxAmount) {
+        this.minAmount = minAmount;
+        this.maxAmount = maxAmount;
+        return this;
+    }
+    
+    public boolean hasAmountRange() {
+        return minAmount != Integer.MIN_VALUE || maxAmount != Integer.MAX_VALUE;
+    }
+    
+    public String getNoteText() {
+        return noteText;
+    }
+    
+    public LedgerQuery noteText(String noteText) {
+        this.noteText = noteText != null && !noteText.trim().isEmpty() ? noteText.trim() : null;
+        return this;
+    }
+    
+    public boolean hasNoteText() {
+        return noteText != null;
+    }
+    
+    public int getLimit() {
+        return limit;
+    }
+    
+    public LedgerQuery limit(int limit) {
+        this.limit = Math.max(0, limit);
+        return this;
+    }
+    
+    public int getTopK() {
+        return topK;
+    }
+    
+    /**
+     * 결과를 ID 순서 대신 금액이 큰 순서로 상위 k개만 가져옵니다.
+     */
+    public LedgerQuery topByAmount(int k) {
+        this.topK = Math.max(0, k);
+        return this;
+    }
+}
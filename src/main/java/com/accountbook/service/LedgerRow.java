@@ -0,0 +1,50 @@
+package com.accountbook.service;
+
+import com.accountbook.model.Category;
+import java.time.LocalDate;
+
+/**
+ * 열 단위 저장소의 한 행을 가리키는 재사용 가능한 읽기 전용 뷰입니다.
+ * 분석 작업은 행마다 LedgerItem을 만들지 않고 이 뷰의 위치만 옮기며 순회합니다.
+ * 뷰는 현재 행을 처리하는 동안에만 유효하므로 보관하지 말아야 합니다.
+ */
+public class LedgerRow {
+    
+    private final LedgerStore store;
+    private int slot;
+    
+    LedgerRow(LedgerStore store) {
+        this.store = store;
+    }
+    
+    void moveTo(int slot) {
+        this.slot = slot;
+    }
+    
+    public int getId() {
+        return store.id(slot);
+    }
+    
+    /**
+     * 날짜를 epoch-day로 가져옵니다. 객체를 만들지 않으므로 getDate()보다 가볍습니다.
+     */
+    public int getEpochDay() {
+        return store.epochDay(slot);
+    }
+    
+    public LocalDate getDate() {
+        return LocalDate.ofEpochDay(store.epochDay(slot));
+    }
+    
+    public Category getCategory() {
+        return Category.fromOrdinal(store.category(slot));
+    }
+    
+    public int getAmount() {
+        return store.amount(slot);
+    }
+    
+    public String getNote() {
+        return store.note(slot);
+    }
+}
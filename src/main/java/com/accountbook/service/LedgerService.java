@@ -1,160 +1,1300 @@
 package com.accountbook.service;
 
+import com.accountbook.model.Category;
 import com.accountbook.model.LedgerItem;
+import com.accountbook.util.BinarySnapshotHandler;
 import com.accountbook.util.CsvFileHandler;
+import com.accountbook.util.PartitionedCsvStore;
+import com.accountbook.util.TableRenderer;
+import com.accountbook.util.ValidationUtil;
+import java.io.IOException;
+import java.io.PrintStream;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Function;
+import java.util.stream.Collector;
 
 /**
  * 가계부 작업(CRUD)을 관리하기 위한 서비스 클래스입니다.
+ *
+ * 여러 스레드에서 동시에 사용할 수 있습니다. 저장소와 인덱스는 StampedLock으로 보호되며,
+ * 조회는 읽기 잠금을 공유하여 동시에 실행되고 추가/삭제/불러오기는 쓰기 잠금으로 배타적으로 실행됩니다.
+ * 항목 수와 기간 합계처럼 짧은 조회는 잠금 없이 낙관적 읽기를 먼저 시도합니다.
+ * 파일 저장은 잠금 밖에서 수행되므로 저장 중에도 조회가 막히지 않습니다.
+ * 저장끼리는 별도의 저장 잠금으로 직렬화되며, 항목 복사도 저장 잠금 안에서 하므로
+ * 나중에 시작한 저장이 항상 더 최신 상태를 기록합니다.
  */
 public class LedgerService {
     
-    private List<LedgerItem> items;
+    // 열 단위 저장소 (ID 인덱스 포함)
+    private final LedgerStore store = new LedgerStore();
     private CsvFileHandler fileHandler;
-    private int nextId;
+    private final AtomicInteger nextId = new AtomicInteger(1);
+    
+    // 저장소와 모든 인덱스를 보호하는 잠금 (재진입 불가이므로 잠금을 잡은 채 다른 공개 메서드를 호출하지 않음)
+    private final StampedLock lock = new StampedLock();
+    
+    // 파일 저장(전체 저장, 저널 추가, 병합, 세그먼트 저장)을 직렬화하는 잠금
+    // 저널 모드에서는 추가/삭제의 저장소 변경도 저널 기록과 함께 이 잠금 안에서 수행
+    // 순서: 저장 잠금 -> 저장소 잠금 (저장소 잠금을 잡은 채 저장 잠금을 기다리지 않음)
+    private final Object saveLock = new Object();
+    
+    // 날짜 인덱스: 날짜 -> 해당 날짜 항목의 ID 목록
+    private final DateIndex dateIndex = new DateIndex();
+    
+    // 카테고리 인덱스: 카테고리 -> ID 비트맵
+    private final CategoryIndex categoryIndex = new CategoryIndex();
+    
+    // 월별/카테고리별 집계 (추가/삭제 시 갱신)
+    private final RollupEngine rollups = new RollupEngine(store, dateIndex);
+    
+    // 날짜 구간 합계용 펜윅 트리 (카테고리별 + 전체)
+    private final DateSumIndex dateSums = new DateSumIndex();
+    
+    // 전체 저장소에 대한 병렬 그룹 집계
+    private final LedgerAnalytics analytics = new LedgerAnalytics(store);
+    
+    // 메모 역색인: n-gram -> 정렬된 ID 목록
+    private final NoteIndex noteIndex = new NoteIndex(store);
+    
+    // 복합 조건 조회 (위 인덱스 중 가장 선택적인 것을 골라 실행)
+    private final QueryEngine queryEngine = new QueryEngine(store, dateIndex, categoryIndex, noteIndex);
+    
+    // 저널 모드: 추가/삭제를 전체 파일 재작성 대신 저널에 추가 기록
+    private boolean journalMode;
+    
+    // 바이너리 스냅샷 (비활성화 시 null)
+    private BinarySnapshotHandler snapshotHandler;
+    
+    // write-behind 플러셔 (비활성화 시 null)
+    private WriteBehindFlusher flusher;
+    
+    // 월별 분할 저장 (비활성화 시 null)
+    private PartitionedCsvStore partitions;
+    
+    // 분할 저장에서 메모리에 올라온 월과, 마지막 저장 이후 변경된 월 (변경된 월은 항상 올라와 있음)
+    private final Set<YearMonth> loadedMonths = new HashSet<>();
+    private final Set<YearMonth> dirtyMonths = ConcurrentHashMap.newKeySet();
+    
+    // 아직 불러오지 않은 세그먼트가 없으면 true (조회마다 목록을 확인하지 않기 위함)
+    private volatile boolean fullyLoaded = true;
+    
+    // 지연 저장: 켜져 있으면 변경을 기록하지 않고 개수만 세었다가 commitDeferred()에서 한 번에 저장
+    private volatile boolean deferPersistence;
+    private final AtomicInteger deferredChanges = new AtomicInteger();
+    
+    // 저장 완료 메시지 출력 안 함
+    private boolean quietSaves;
+    
+    // 읽기 전용: 불러오기만 하고 저장, 분할 변환, 스냅샷 생성, 임시 파일 정리 등 파일을 바꾸는 작업은 하지 않음
+    private final boolean readOnly;
     
     public LedgerService() {
-        this.fileHandler = new CsvFileHandler();
-        this.items = new ArrayList<>();
-        this.nextId = 1;
-        loadData();
+        this(new LedgerOptions());
     }
     
     public LedgerService(String fileName) {
-        this.fileHandler = new CsvFileHandler(fileName);
-        this.items = new ArrayList<>();
-        this.nextId = 1;
+        this(fileName, false);
+    }
+    
+    public LedgerService(String fileName, boolean journalMode) {
+        this(new LedgerOptions().fileName(fileName).journalMode(journalMode));
+    }
+    
+    public LedgerService(LedgerOptions options) {
+        this.fileHandler = new CsvFileHandler(options.getFileName());
+        this.readOnly = options.isReadOnly();
+        fileHandler.setReadOnly(readOnly);
+        if (options.isPartitioned()) {
+            // 분할 저장은 변경된 월만 다시 쓰므로 저널과 스냅샷을 사용하지 않음
+            this.partitions = new PartitionedCsvStore(options.getFileName());
+            partitions.setReadOnly(readOnly);
+        } else {
+            this.journalMode = options.isJournalMode();
+            if (options.isSnapshotEnabled()) {
+                this.snapshotHandler = new BinarySnapshotHandler(options.getFileName());
+            }
+        }
         loadData();
+        
+        this.quietSaves = options.isQuietSaves();
+        if (quietSaves) {
+            setVerbose(false);
+        }
+        if (options.isWriteBehind() && !readOnly) {
+            // 백그라운드 저장 메시지가 입력 프롬프트 사이에 끼어들지 않도록 함
+            setVerbose(false);
+            this.flusher = new WriteBehindFlusher(this::writeCurrentState,
+                options.getFlushIntervalMillis(), options.getFlushBatchSize());
+            Runtime.getRuntime().addShutdownHook(new Thread(flusher::close, "ledger-shutdown-flush"));
+        }
     }
     
     /**
      * 시작 시 파일에서 데이터를 불러옵니다.
      */
     private void loadData() {
-        items = fileHandler.loadFromFile();
+        if (partitions != null) {
+            openPartitions();
+            return;
+        }
+        setItems(readItems());
+    }
+    
+    private void setVerbose(boolean verbose) {
+        fileHandler.setVerbose(verbose);
+        if (partitions != null) {
+            partitions.setVerbose(verbose);
+        }
+    }
+    
+    /**
+     * 분할 저장 목록만 읽고 세그먼트는 필요할 때 불러옵니다.
+     * 목록이 없고 기존 CSV 파일이 있으면 한 번만 전체를 읽어 월별 세그먼트로 나누어 저장합니다.
+     * 읽기 전용이면 나누지 않고 메모리에만 불러옵니다.
+     */
+    private void openPartitions() {
+        long stamp = lock.writeLock();
+        try {
+            replaceItems(new ArrayList<LedgerItem>());
+            loadedMonths.clear();
+            dirtyMonths.clear();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
         
-        // 기존 항목을 기반으로 다음 ID를 계산
-        if (!items.isEmpty()) {
-            nextId = items.stream()
-                .mapToInt(LedgerItem::getId)
-                .max()
-                .orElse(0) + 1;
+        if (partitions.loadManifest()) {
+            List<YearMonth> months = partitions.getMonths();
+            nextId.set(partitions.getNextId());
+            fullyLoaded = months.isEmpty();
+            System.out.printf("%s에서 %d개 월의 목록을 불러왔습니다 (항목은 필요할 때 불러옵니다).%n",
+                partitions.getFileName(), months.size());
+            return;
+        }
+        
+        fullyLoaded = true;
+        if (partitions.exists()) {
+            System.out.println("경고: 분할 저장 목록을 사용할 수 없어 빈 가계부로 시작합니다.");
+            return;
+        }
+        if (!fileHandler.fileExists()) {
+            System.out.println("기존 데이터 파일이 없습니다. 빈 가계부로 시작합니다.");
+            return;
+        }
+        
+        List<LedgerItem> items = fileHandler.loadFromFile();
+        stamp = lock.writeLock();
+        try {
+            replaceItems(items);
+            if (readOnly) {
+                // 읽기 전용이면 기존 CSV를 메모리에서만 사용하고 월별 파일로 나누지 않음
+                return;
+            }
+            for (int slot = 0; slot < store.size(); slot++) {
+                markDirty(store.epochDay(slot));
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        if (writeCurrentState()) {
+            System.out.printf("%s의 항목을 %d개 월의 파일로 나누어 저장했습니다.%n",
+                fileHandler.getFileName(), loadedMonths.size());
+        }
+    }
+    
+    /**
+     * 날짜 구간 [startDate, endDate]와 겹치는 세그먼트를 불러옵니다. null은 구간의 끝이 열려 있음을 뜻합니다.
+     */
+    private void ensureLoaded(LocalDate startDate, LocalDate endDate) {
+        if (!fullyLoaded) {
+            loadMonths(partitions.getMonths(startDate, endDate));
+        }
+    }
+    
+    /**
+     * 주어진 월 중 목록에 있는 세그먼트를 불러옵니다.
+     */
+    private void ensureLoaded(Collection<YearMonth> months) {
+        if (!fullyLoaded) {
+            List<YearMonth> listed = partitions.getMonths();
+            listed.retainAll(months);
+            loadMonths(listed);
         }
     }
     
+    /**
+     * ID 범위상 주어진 ID를 담고 있을 수 있는 세그먼트를 불러옵니다.
+     */
+    private void ensureLoadedById(int id) {
+        if (!fullyLoaded) {
+            loadMonths(partitions.getMonthsContaining(id));
+        }
+    }
+    
+    private void ensureAllLoaded() {
+        ensureLoaded(null, null);
+    }
+    
+    /**
+     * 메모 검색은 두 날짜가 모두 있을 때만 기간을 적용하므로, 그때만 겹치는 세그먼트로 좁힙니다.
+     */
+    private void ensureNoteRangeLoaded(LocalDate startDate, LocalDate endDate) {
+        boolean ranged = startDate != null && endDate != null;
+        ensureLoaded(ranged ? startDate : null, ranged ? endDate : null);
+    }
+    
+    /**
+     * 아직 불러오지 않은 세그먼트를 잠금 밖에서 읽은 뒤 쓰기 잠금 안에서 저장소와 인덱스에 추가합니다.
+     * 다른 스레드가 먼저 불러온 월은 건너뜁니다.
+     */
+    private void loadMonths(List<YearMonth> months) {
+        List<YearMonth> missing = new ArrayList<>();
+        long stamp = lock.readLock();
+        try {
+            for (YearMonth month : months) {
+                if (!loadedMonths.contains(month)) {
+                    missing.add(month);
+                }
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+        
+        List<List<LedgerItem>> segments = new ArrayList<>(missing.size());
+        int total = 0;
+        for (YearMonth month : missing) {
+            List<LedgerItem> items = partitions.loadSegment(month);
+            segments.add(items);
+            total += items.size();
+        }
+        
+        stamp = lock.writeLock();
+        try {
+            boolean rebuildNotes = total > store.size();
+            for (int i = 0; i < missing.size(); i++) {
+                if (!loadedMonths.add(missing.get(i))) {
+                    continue;
+                }
+                for (LedgerItem item : segments.get(i)) {
+                    if (store.contains(item.getId())) {
+                        continue;
+                    }
+                    int slot = store.add(item);
+                    indexColumns(slot);
+                    if (!rebuildNotes) {
+                        noteIndex.add(store.id(slot), store.note(slot));
+                    }
+                }
+            }
+            if (rebuildNotes) {
+                noteIndex.rebuild();
+            }
+            nextId.accumulateAndGet(store.maxId() + 1, Math::max);
+            fullyLoaded = loadedMonths.containsAll(partitions.getMonths());
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+    
+    /**
+     * 분할 저장에서 항목의 날짜가 속한 월을 변경된 월로 표시합니다. 쓰기 잠금 안에서 호출합니다.
+     */
+    private void markDirty(int epochDay) {
+        if (partitions != null) {
+            YearMonth month = YearMonth.from(LocalDate.ofEpochDay(epochDay));
+            dirtyMonths.add(month);
+            loadedMonths.add(month);
+        }
+    }
+    
+    /**
+     * 불러온 항목으로 저장소와 인덱스를 다시 구성하고 다음 ID를 계산합니다.
+     * 같은 ID가 여러 번 나오면 마지막 항목만 유지합니다.
+     */
+    private void setItems(List<LedgerItem> loadedItems) {
+        long stamp = lock.writeLock();
+        try {
+            replaceItems(loadedItems);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+    
+    private void replaceItems(List<LedgerItem> loadedItems) {
+        store.clear();
+        dateIndex.clear();
+        categoryIndex.clear();
+        rollups.clear();
+        dateSums.clear();
+        
+        for (LedgerItem item : loadedItems) {
+            int previous = store.slotOf(item.getId());
+            if (previous >= 0) {
+                System.out.printf("경고: 중복된 ID %d가 있어 마지막 항목만 유지합니다.%n", item.getId());
+                unindexColumns(previous);
+            }
+            indexColumns(store.add(item));
+        }
+        
+        // 메모 역색인은 항목마다 갱신하지 않고 한 번에 병렬로 재구성
+        noteIndex.rebuild();
+        
+        // 기존 항목을 기반으로 다음 ID를 계산
+        nextId.set(store.maxId() + 1);
+    }
+    
     /**
      * 가계부에 새 항목을 추가합니다.
      */
     public boolean addItem(LocalDate date, int amount, String category, String note) {
-        LedgerItem newItem = new LedgerItem(nextId, date, amount, category, note);
-        items.add(newItem);
-        nextId++;
-        
-        boolean saved = saveData();
-        if (saved) {
+        LedgerItem newItem = createItem(date, amount, category, note);
+        if (newItem != null) {
             System.out.printf("항목이 ID: %d로 성공적으로 추가되었습니다.%n", newItem.getId());
         }
-        return saved;
+        return newItem != null;
+    }
+    
+    /**
+     * 새 항목을 추가하고 만들어진 항목을 반환합니다 (메시지 출력 없음).
+     * 저장에 실패하면 null을 반환하며, 이때도 항목은 메모리에 남아 있습니다.
+     * ID 상한에 도달했으면 추가하지 않고 null을 반환합니다.
+     */
+    public LedgerItem createItem(LocalDate date, int amount, String category, String note) {
+        // 분할 저장에서는 해당 월의 세그먼트만 있으면 됨
+        if (date != null) {
+            ensureLoaded(date, date);
+        }
+        int id = reserveIds(1);
+        if (id < 0) {
+            return null;
+        }
+        LedgerItem newItem = new LedgerItem(id, date, amount, category, note);
+        if (journalsEachChange()) {
+            synchronized (saveLock) {
+                return storeAndPersist(newItem);
+            }
+        }
+        return storeAndPersist(newItem);
+    }
+    
+    /**
+     * 항목을 저장소와 인덱스에 넣고 현재 영속성 모드에 맞게 기록합니다.
+     */
+    private LedgerItem storeAndPersist(LedgerItem newItem) {
+        long stamp = lock.writeLock();
+        try {
+            int slot = store.add(newItem);
+            index(slot);
+            markDirty(store.epochDay(slot));
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        return persistAdd(newItem) ? newItem : null;
     }
     
     /**
      * ID로 항목을 삭제합니다.
      */
     public boolean deleteItem(int id) {
-        boolean removed = items.removeIf(item -> item.getId() == id);
-        
-        if (!removed) {
+        if (journalsEachChange()) {
+            synchronized (saveLock) {
+                return deleteAndReport(id);
+            }
+        }
+        return deleteAndReport(id);
+    }
+    
+    /**
+     * 항목을 삭제하고 기록한 뒤 결과 메시지를 출력합니다.
+     */
+    private boolean deleteAndReport(int id) {
+        if (!unstore(id)) {
             System.out.printf("ID %d를 가진 항목이 존재하지 않습니다.%n", id);
             return false;
         }
         
-        boolean saved = saveData();
+        boolean saved = persistDelete(id);
         if (saved) {
             System.out.printf("ID %d를 가진 항목이 성공적으로 삭제되었습니다.%n", id);
         }
         return saved;
     }
     
+    /**
+     * ID로 항목을 삭제하고 저장합니다 (메시지 출력 없음).
+     * 항목이 없거나 저장에 실패하면 false를 반환합니다.
+     */
+    public boolean removeItem(int id) {
+        if (journalsEachChange()) {
+            synchronized (saveLock) {
+                return unstore(id) && persistDelete(id);
+            }
+        }
+        return unstore(id) && persistDelete(id);
+    }
+    
+    /**
+     * 변경마다 저널에 바로 기록하는지 확인합니다. 이때는 저장소 변경과 저널 기록을 저장 잠금으로 묶어,
+     * 다른 스레드의 삭제 툼스톤이 추가 레코드보다 먼저 기록되는 식으로 순서가 뒤바뀌지 않게 합니다.
+     */
+    private boolean journalsEachChange() {
+        return journalMode && flusher == null;
+    }
+    
+    /**
+     * 메모리에서 항목과 인덱스 항목을 제거합니다. 항목이 없으면 false를 반환합니다.
+     */
+    private boolean unstore(int id) {
+        ensureLoadedById(id);
+        long stamp = lock.writeLock();
+        try {
+            int slot = store.slotOf(id);
+            if (slot < 0) {
+                return false;
+            }
+            markDirty(store.epochDay(slot));
+            unindex(slot);
+            store.remove(id);
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+    
+    /**
+     * 슬롯의 항목을 모든 인덱스와 집계에 추가합니다.
+     */
+    private void index(int slot) {
+        indexColumns(slot);
+        noteIndex.add(store.id(slot), store.note(slot));
+    }
+    
+    /**
+     * 슬롯의 항목을 모든 인덱스와 집계에서 제거합니다.
+     */
+    private void unindex(int slot) {
+        unindexColumns(slot);
+        noteIndex.remove(store.id(slot), store.note(slot));
+    }
+    
+    /**
+     * 슬롯의 항목을 보조 인덱스(날짜, 카테고리)와 집계에 추가합니다.
+     */
+    private void indexColumns(int slot) {
+        dateIndex.add(store.epochDay(slot), store.id(slot));
+        categoryIndex.add(Category.fromOrdinal(store.category(slot)), store.id(slot));
+        rollups.add(store.epochDay(slot), store.category(slot), store.amount(slot));
+        dateSums.add(store.epochDay(slot), store.category(slot), store.amount(slot));
+    }
+    
+    /**
+     * 슬롯의 항목을 보조 인덱스(날짜, 카테고리)와 집계에서 제거합니다.
+     */
+    private void unindexColumns(int slot) {
+        dateIndex.remove(store.epochDay(slot), store.id(slot));
+        categoryIndex.remove(Category.fromOrdinal(store.category(slot)), store.id(slot));
+        rollups.remove(store.epochDay(slot), store.category(slot), store.amount(slot));
+        dateSums.remove(store.epochDay(slot), store.category(slot), store.amount(slot));
+    }
+    
+    /**
+     * 외부 CSV 파일의 항목을 한 번에 가져옵니다.
+     * 행은 병렬로 검증되고, 통과한 행은 nextId부터 연속된 ID 블록을 받아 한 번에 추가된 뒤
+     * 전체가 한 번만 저장됩니다. 거부된 행은 "원본파일.rejects.tsv"에 줄 번호와 함께 기록됩니다.
+     * 파일을 읽을 수 없거나 헤더가 유효하지 않으면 null을 반환합니다.
+     */
+    public ImportResult importCsv(String sourceFileName) {
+        long started = System.currentTimeMillis();
+        BulkImporter importer = new BulkImporter();
+        BulkImporter.Batch batch;
+        String reportFile;
+        try {
+            batch = importer.read(sourceFileName);
+            reportFile = importer.writeRejects(sourceFileName, batch);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.printf("파일 %s 가져오기 오류: %s%n", sourceFileName, e.getMessage());
+            return null;
+        }
+        
+        // 분할 저장에서는 가져온 항목이 속한 월의 세그먼트만 불러와 다시 씀
+        Set<YearMonth> months = new HashSet<>();
+        if (partitions != null) {
+            for (int row = 0; row < batch.size(); row++) {
+                months.add(YearMonth.from(LocalDate.ofEpochDay(batch.epochDay(row))));
+            }
+            ensureLoaded(months);
+        }
+        
+        // ID 블록을 한 번에 예약
+        int firstId = reserveIds(batch.size());
+        if (firstId < 0) {
+            return null;
+        }
+        long stamp = lock.writeLock();
+        try {
+            for (YearMonth month : months) {
+                markDirty((int) month.atDay(1).toEpochDay());
+            }
+            boolean rebuildNotes = batch.size() > store.size();
+            for (int row = 0; row < batch.size(); row++) {
+                int slot = store.add(firstId + row, batch.epochDay(row), batch.category(row),
+                    batch.amount(row), batch.note(row));
+                indexColumns(slot);
+                if (!rebuildNotes) {
+                    noteIndex.add(store.id(slot), store.note(slot));
+                }
+            }
+            // 기존 항목보다 많이 가져왔으면 메모 역색인을 병렬로 재구성하는 편이 빠름
+            if (rebuildNotes) {
+                noteIndex.rebuild();
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        
+        // write-behind에서는 변경을 알려야 flushAndWait가 실제로 저장함
+        if (flusher != null && batch.size() > 0) {
+            flusher.markDirty();
+        }
+        boolean saved = batch.size() == 0 || (journalMode ? compactJournal() : saveData());
+        return new ImportResult(batch.size(), batch.getRejectedCount(), firstId, reportFile, saved,
+            System.currentTimeMillis() - started);
+    }
+    
+    /**
+     * 연속된 ID count개를 예약하고 첫 ID를 반환합니다.
+     * ID 상한을 넘게 되면 예약하지 않고 오류를 출력한 뒤 -1을 반환합니다.
+     */
+    private int reserveIds(int count) {
+        int first = nextId.getAndAccumulate(count,
+            (current, n) -> current <= ValidationUtil.MAX_ID + 1 - n ? current + n : current);
+        if (first > ValidationUtil.MAX_ID + 1 - count) {
+            System.err.printf("오류: ID 상한(%d)에 도달하여 항목 %d개를 추가할 수 없습니다.%n",
+                ValidationUtil.MAX_ID, count);
+            return -1;
+        }
+        return first;
+    }
+    
+    /**
+     * 추가된 항목을 현재 영속성 모드에 맞게 기록합니다.
+     */
+    private boolean persistAdd(LedgerItem newItem) {
+        if (readOnly) {
+            return false;
+        }
+        if (deferPersistence) {
+            deferredChanges.incrementAndGet();
+            return true;
+        }
+        if (flusher != null) {
+            flusher.markDirty();
+            return true;
+        }
+        if (journalMode) {
+            synchronized (saveLock) {
+                return fileHandler.appendToJournal(newItem);
+            }
+        }
+        return saveData();
+    }
+    
+    /**
+     * 삭제된 항목을 현재 영속성 모드에 맞게 기록합니다.
+     */
+    private boolean persistDelete(int id) {
+        if (readOnly) {
+            return false;
+        }
+        if (deferPersistence) {
+            deferredChanges.incrementAndGet();
+            return true;
+        }
+        if (flusher != null) {
+            flusher.markDirty();
+            return true;
+        }
+        if (journalMode) {
+            synchronized (saveLock) {
+                return fileHandler.appendTombstone(id);
+            }
+        }
+        return saveData();
+    }
+    
+    /**
+     * 지연 저장을 켜거나 끕니다. 켜져 있는 동안 추가/삭제는 메모리에만 반영되며,
+     * commitDeferred()를 호출해야 파일에 저장됩니다. 끌 때 남은 변경은 저장하지 않습니다.
+     */
+    public void setDeferredPersistence(boolean deferred) {
+        this.deferPersistence = deferred;
+    }
+    
+    /**
+     * 지연된 변경 사항을 한 번에 저장합니다 (저널 모드에서는 저널을 병합).
+     * 저장할 변경이 없으면 아무것도 하지 않습니다.
+     */
+    public boolean commitDeferred() {
+        int pending = deferredChanges.getAndSet(0);
+        if (pending == 0) {
+            return true;
+        }
+        if (flusher != null) {
+            flusher.markDirty();
+        }
+        boolean saved = journalMode ? compactJournal() : saveData();
+        if (!saved) {
+            deferredChanges.addAndGet(pending);
+        }
+        return saved;
+    }
+    
+    /**
+     * 저장을 기다리는 지연된 변경 수를 가져옵니다.
+     */
+    public int getDeferredChangeCount() {
+        return deferredChanges.get();
+    }
+    
     /**
      * 모든 항목을 ID별로 정렬(오름차순)하여 가져옵니다.
      */
     public List<LedgerItem> getAllItems() {
-        return items.stream()
-            .sorted(Comparator.comparingInt(LedgerItem::getId))
-            .collect(Collectors.toList());
+        ensureAllLoaded();
+        long stamp = lock.readLock();
+        try {
+            return store.toItems();
+        } finally {
+            lock.unlockRead(stamp);
+        }
     }
     
     /**
      * 날짜 범위 내의 항목을 가져옵니다.
      */
     public List<LedgerItem> getItemsByDateRange(LocalDate startDate, LocalDate endDate) {
-        return items.stream()
-            .filter(item -> {
-                LocalDate itemDate = item.getDate();
-                return !itemDate.isBefore(startDate) && !itemDate.isAfter(endDate);
-            })
-            .sorted(Comparator.comparingInt(LedgerItem::getId))
-            .collect(Collectors.toList());
+        ensureLoaded(startDate, endDate);
+        long stamp = lock.readLock();
+        try {
+            return store.toItems(dateIndex.idsInRange(startDate, endDate));
+        } finally {
+            lock.unlockRead(stamp);
+        }
     }
     
     /**
      * 카테고리별 항목을 가져옵니다.
      */
     public List<LedgerItem> getItemsByCategory(String category) {
-        return items.stream()
-            .filter(item -> item.getCategory().equals(category))
-            .sorted(Comparator.comparingInt(LedgerItem::getId))
-            .collect(Collectors.toList());
+        Category type = Category.fromName(category);
+        if (type == null) {
+            return new ArrayList<>();
+        }
+        return getItemsByCategory(type);
+    }
+    
+    /**
+     * 카테고리별 항목을 ID 순으로 가져옵니다.
+     */
+    public List<LedgerItem> getItemsByCategory(Category category) {
+        ensureAllLoaded();
+        long stamp = lock.readLock();
+        try {
+            return store.toItems(categoryIndex.ids(category));
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+    
+    /**
+     * 전체 항목을 ID 순으로 페이지 단위로 조회하는 커서를 엽니다.
+     */
+    public ItemCursor openCursor(int pageSize) {
+        ensureAllLoaded();
+        return new ItemCursor(this, null, nextId.get() - 1, pageSize);
+    }
+    
+    /**
+     * 날짜 범위 내의 항목을 페이지 단위로 조회하는 커서를 엽니다.
+     */
+    public ItemCursor openCursorByDateRange(LocalDate startDate, LocalDate endDate, int pageSize) {
+        ensureLoaded(startDate, endDate);
+        long stamp = lock.readLock();
+        try {
+            return new ItemCursor(this, dateIndex.idSetInRange(startDate, endDate), nextId.get() - 1, pageSize);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+    
+    /**
+     * 카테고리별 항목을 페이지 단위로 조회하는 커서를 엽니다.
+     */
+    public ItemCursor openCursorByCategory(String category, int pageSize) {
+        ensureAllLoaded();
+        long stamp = lock.readLock();
+        try {
+            Category type = Category.fromName(category);
+            BitSet matches = type != null ? categoryIndex.postings(type) : new BitSet();
+            return new ItemCursor(this, matches, nextId.get() - 1, pageSize);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+    
+    /**
+     * 메모 검색 결과를 페이지 단위로 조회하는 커서를 엽니다.
+     * 날짜(startDate, endDate)와 카테고리 조건은 null이면 적용하지 않습니다.
+     */
+    public ItemCursor openCursorByNote(String query, LocalDate startDate, LocalDate endDate,
+                                       Category category, int pageSize) {
+        ensureNoteRangeLoaded(startDate, endDate);
+        long stamp = lock.readLock();
+        try {
+            return new ItemCursor(this, noteMatches(query, startDate, endDate, category), nextId.get() - 1,
+                pageSize);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+    
+    /**
+     * 복합 조회 결과를 페이지 단위로 조회하는 커서를 엽니다. 상위 K개 조건은 적용하지 않습니다.
+     */
+    public ItemCursor openCursor(LedgerQuery query, int pageSize) {
+        ensureLoaded(query.getStartDate(), query.getEndDate());
+        long stamp = lock.readLock();
+        try {
+            return new ItemCursor(this, queryEngine.matchingIds(query), nextId.get() - 1, pageSize);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+    
+    /**
+     * afterId 다음부터 maxId까지 조건에 맞는 항목을 ID 오름차순으로 최대 limit개 가져옵니다.
+     * matches가 null이면 모든 항목이 대상입니다.
+     */
+    List<LedgerItem> itemsAfter(BitSet matches, int afterId, int maxId, int limit) {
+        long stamp = lock.readLock();
+        try {
+            List<LedgerItem> page = new ArrayList<>(Math.min(limit, store.size()));
+            for (int id = nextMatch(matches, afterId + 1); id >= 0 && id <= maxId && page.size() < limit;
+                    id = nextMatch(matches, id + 1)) {
+                page.add(store.get(id));
+            }
+            return page;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+    
+    /**
+     * beforeId 이전에서 조건에 맞는 항목을 최대 limit개 가져와 ID 오름차순으로 반환합니다.
+     */
+    List<LedgerItem> itemsBefore(BitSet matches, int beforeId, int limit) {
+        long stamp = lock.readLock();
+        try {
+            List<LedgerItem> page = new ArrayList<>(Math.min(limit, store.size()));
+            for (int id = previousMatch(matches, beforeId - 1); id >= 0 && page.size() < limit;
+                    id = previousMatch(matches, id - 1)) {
+                page.add(store.get(id));
+            }
+            Collections.reverse(page);
+            return page;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+    
+    /**
+     * maxId 이하에서 조건에 맞는 살아 있는 항목 수를 가져옵니다.
+     */
+    int countMatches(BitSet matches, int maxId) {
+        long stamp = lock.readLock();
+        try {
+            int count = 0;
+            if (matches == null) {
+                // maxId보다 큰 ID(커서를 연 뒤 추가된 항목)만 빼면 되므로 전체를 세지 않음
+                count = store.size();
+                for (int id = store.nextId(maxId + 1); id >= 0; id = store.nextId(id + 1)) {
+                    count--;
+                }
+                return count;
+            }
+            for (int id = nextMatch(matches, 0); id >= 0 && id <= maxId; id = nextMatch(matches, id + 1)) {
+                count++;
+            }
+            return count;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+    
+    /**
+     * fromId 이상에서 조건에 맞고 아직 삭제되지 않은 첫 ID를 찾습니다 (없으면 -1).
+     */
+    private int nextMatch(BitSet matches, int fromId) {
+        if (matches == null) {
+            return store.nextId(fromId);
+        }
+        int id = matches.nextSetBit(Math.max(0, fromId));
+        while (id >= 0 && !store.contains(id)) {
+            id = matches.nextSetBit(id + 1);
+        }
+        return id;
+    }
+    
+    /**
+     * fromId 이하에서 조건에 맞고 아직 삭제되지 않은 마지막 ID를 찾습니다 (없으면 -1).
+     */
+    private int previousMatch(BitSet matches, int fromId) {
+        if (matches == null) {
+            return store.previousId(fromId);
+        }
+        int id = fromId < 0 ? -1 : matches.previousSetBit(fromId);
+        while (id >= 0 && !store.contains(id)) {
+            id = matches.previousSetBit(id - 1);
+        }
+        return id;
+    }
+    
+    /**
+     * 항목이 있는 연월 목록을 오름차순으로 가져옵니다.
+     */
+    public List<YearMonth> getSummaryMonths() {
+        ensureAllLoaded();
+        long stamp = lock.readLock();
+        try {
+            return rollups.months();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+    
+    /**
+     * 연월과 카테고리의 합계, 건수, 최소/최대 금액을 가져옵니다.
+     */
+    public RollupEngine.Summary getSummary(YearMonth yearMonth, Category category) {
+        ensureLoaded(yearMonth.atDay(1), yearMonth.atEndOfMonth());
+        long stamp = lock.readLock();
+        try {
+            return rollups.get(yearMonth, category);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+    
+    /**
+     * 연월 전체의 합계, 건수, 최소/최대 금액을 가져옵니다.
+     */
+    public RollupEngine.Summary getMonthSummary(YearMonth yearMonth) {
+        ensureLoaded(yearMonth.atDay(1), yearMonth.atEndOfMonth());
+        long stamp = lock.readLock();
+        try {
+            return rollups.getMonthTotal(yearMonth);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+    
+    /**
+     * 복합 조회를 실행합니다. 상위 K개 조건이 있으면 금액 내림차순, 없으면 ID 오름차순입니다.
+     */
+    public List<LedgerItem> query(LedgerQuery query) {
+        ensureLoaded(query.getStartDate(), query.getEndDate());
+        long stamp = lock.readLock();
+        try {
+            return queryEngine.execute(query);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+    
+    /**
+     * 기간과 카테고리 안에서 금액이 가장 큰 항목 k개를 금액 내림차순으로 가져옵니다.
+     * 날짜(startDate, endDate)와 카테고리 조건은 null이면 적용하지 않으며,
+     * 조건이 있으면 해당 인덱스로 후보를 먼저 좁힌 뒤 크기 k의 힙으로 고릅니다.
+     */
+    public List<LedgerItem> getTopExpenses(int k, LocalDate startDate, LocalDate endDate, Category category) {
+        LedgerQuery query = new LedgerQuery().dateRange(startDate, endDate).topByAmount(k);
+        if (category != null) {
+            query.category(category);
+        }
+        return k > 0 ? query(query) : new ArrayList<LedgerItem>();
+    }
+    
+    /**
+     * 복합 조회 결과를 CSV 또는 JSON 파일로 스트리밍하여 내보냅니다 (선택적으로 gzip 압축).
+     * 결과 목록을 만들지 않고 저장소의 행을 바로 씁니다. 쓰기에 실패하면 null을 반환합니다.
+     */
+    public ExportResult exportItems(LedgerQuery query, String fileName,
+                                    LedgerExporter.Format format, boolean gzip) {
+        ensureLoaded(query.getStartDate(), query.getEndDate());
+        long stamp = lock.readLock();
+        try {
+            PrimitiveIterator.OfInt ids = query.getTopK() > 0
+                ? Arrays.stream(queryEngine.resultIds(query)).iterator()
+                : queryEngine.matchingIds(query).stream().iterator();
+            try {
+                return new LedgerExporter(store).export(ids, fileName, format, gzip);
+            } catch (IOException e) {
+                System.err.printf("파일 %s 내보내기 오류: %s%n", fileName, e.getMessage());
+                return null;
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+    
+    /**
+     * 복합 조회의 실행 계획을 가져옵니다.
+     */
+    public QueryPlan explain(LedgerQuery query) {
+        ensureLoaded(query.getStartDate(), query.getEndDate());
+        long stamp = lock.readLock();
+        try {
+            return queryEngine.plan(query);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+    
+    /**
+     * 메모에 검색어(공백으로 구분된 모든 단어)를 포함하는 항목을 ID 순으로 가져옵니다.
+     */
+    public List<LedgerItem> searchNotes(String query) {
+        return searchNotes(query, null, null, null);
+    }
+    
+    /**
+     * 메모 검색 결과를 날짜 범위와 카테고리로 좁혀 ID 순으로 가져옵니다.
+     * 날짜(startDate, endDate)와 카테고리 조건은 null이면 적용하지 않습니다.
+     */
+    public List<LedgerItem> searchNotes(String query, LocalDate startDate, LocalDate endDate,
+                                        Category category) {
+        ensureNoteRangeLoaded(startDate, endDate);
+        long stamp = lock.readLock();
+        try {
+            return store.toItems(noteMatches(query, startDate, endDate, category).stream().toArray());
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+    
+    /**
+     * 메모 역색인 결과에 날짜와 카테고리 비트맵을 교집합으로 적용합니다.
+     */
+    private BitSet noteMatches(String query, LocalDate startDate, LocalDate endDate, Category category) {
+        BitSet matches = noteIndex.search(query);
+        if (startDate != null && endDate != null && !matches.isEmpty()) {
+            matches.and(dateIndex.idSetInRange(startDate, endDate));
+        }
+        if (category != null && !matches.isEmpty()) {
+            matches.and(categoryIndex.postings(category));
+        }
+        return matches;
+    }
+    
+    /**
+     * 시작일과 종료일(포함) 사이의 금액 합계를 가져옵니다.
+     * category가 null이면 모든 카테고리의 합계입니다.
+     * 펜윅 트리 배열은 커지기만 하므로 먼저 잠금 없이 읽고, 그 사이 변경이 있었으면 읽기 잠금으로 다시 읽습니다.
+     */
+    public long getTotalAmount(LocalDate startDate, LocalDate endDate, Category category) {
+        ensureLoaded(startDate, endDate);
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            long sum = dateSums.sum(startDate, endDate, category);
+            if (lock.validate(stamp)) {
+                return sum;
+            }
+        }
+        
+        stamp = lock.readLock();
+        try {
+            return dateSums.sum(startDate, endDate, category);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+    
+    /**
+     * 모든 항목을 key로 묶어 reducer로 집계합니다 (예: 요일별 지출, 금액 구간별 건수).
+     * 항목 수가 많으면 fork-join으로 병렬 처리되며, 집계 중에는 변경이 대기합니다.
+     */
+    public <K, A, R> Map<K, R> analyze(Function<? super LedgerRow, ? extends K> key,
+                                       Collector<? super LedgerRow, A, R> reducer) {
+        return analyze(key, reducer, LedgerAnalytics.DEFAULT_SEQUENTIAL_THRESHOLD);
+    }
+    
+    /**
+     * 순차 처리 기준 행 수를 지정하여 모든 항목을 그룹별로 집계합니다.
+     */
+    public <K, A, R> Map<K, R> analyze(Function<? super LedgerRow, ? extends K> key,
+                                       Collector<? super LedgerRow, A, R> reducer,
+                                       int sequentialThreshold) {
+        ensureAllLoaded();
+        long stamp = lock.readLock();
+        try {
+            return analytics.groupBy(key, reducer, sequentialThreshold);
+        } finally {
+            lock.unlockRead(stamp);
+        }
     }
     
     /**
      * 주어진 ID를 가진 항목이 존재하는지 확인합니다.
      */
     public boolean itemExists(int id) {
-        return items.stream().anyMatch(item -> item.getId() == id);
+        ensureLoadedById(id);
+        long stamp = lock.readLock();
+        try {
+            return store.contains(id);
+        } finally {
+            lock.unlockRead(stamp);
+        }
     }
     
     /**
      * 전체 항목 수를 가져옵니다.
      */
     public int getItemCount() {
-        return items.size();
+        if (!fullyLoaded) {
+            // 분할 저장에서 아직 불러오지 않은 월은 목록의 항목 수로 셈
+            long stamp = lock.readLock();
+            try {
+                return store.size() + partitions.countExcluding(loadedMonths);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        
+        long stamp = lock.tryOptimisticRead();
+        int count = store.size();
+        if (stamp != 0 && lock.validate(stamp)) {
+            return count;
+        }
+        
+        stamp = lock.readLock();
+        try {
+            return store.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+    
+    /**
+     * ID로 항목을 조회합니다. 없으면 null을 반환합니다.
+     */
+    public LedgerItem getItem(int id) {
+        ensureLoadedById(id);
+        long stamp = lock.readLock();
+        try {
+            return store.get(id);
+        } finally {
+            lock.unlockRead(stamp);
+        }
     }
     
     /**
      * 데이터를 수동으로 파일에 저장합니다.
+     * 저널 모드에서는 저널이 새 CSV로 병합됩니다.
+     * write-behind 모드에서는 대기 중인 변경을 저장하고 완료될 때까지 기다립니다.
      */
     public boolean saveData() {
-        return fileHandler.saveToFile(items);
+        if (flusher != null) {
+            boolean saved = flusher.flushAndWait();
+            if (saved && !quietSaves) {
+                System.out.printf("%s에 %d개의 항목을 저장했습니다.%n", getFileName(), getItemCount());
+            }
+            return saved;
+        }
+        return writeCurrentState();
+    }
+    
+    /**
+     * 대기 중인 모든 변경 사항이 디스크에 저장되었는지 확인합니다.
+     */
+    public boolean isDurable() {
+        return flusher == null || flusher.isDurable();
+    }
+    
+    /**
+     * 아직 저장되지 않은 변경 수를 가져옵니다.
+     */
+    public long getPendingWriteCount() {
+        return flusher == null ? 0 : flusher.getPendingCount();
+    }
+    
+    /**
+     * 남은 변경 사항을 저장하고 백그라운드 작업을 종료합니다.
+     */
+    public boolean close() {
+        return flusher == null || flusher.close();
+    }
+    
+    /**
+     * 현재 메모리 상태를 CSV(및 스냅샷)에 저장합니다.
+     * write-behind 플러셔의 백그라운드 스레드에서도 호출됩니다.
+     */
+    private boolean writeCurrentState() {
+        if (readOnly) {
+            return false;
+        }
+        synchronized (saveLock) {
+            if (partitions != null) {
+                return writeDirtySegments();
+            }
+            List<LedgerItem> copy = snapshotItems();
+            boolean saved = fileHandler.saveToFile(copy);
+            if (saved && snapshotHandler != null) {
+                snapshotHandler.saveToFile(copy);
+            }
+            return saved;
+        }
+    }
+    
+    /**
+     * 변경된 월의 세그먼트만 다시 씁니다. 표시를 먼저 지운 뒤 항목을 복사하므로
+     * 복사 중에 들어온 변경은 다시 표시되어 다음 저장에 포함됩니다. 저장 잠금을 잡은 채 호출합니다.
+     */
+    private boolean writeDirtySegments() {
+        List<YearMonth> months = new ArrayList<>(dirtyMonths);
+        if (months.isEmpty()) {
+            return true;
+        }
+        dirtyMonths.removeAll(months);
+        
+        Map<YearMonth, List<LedgerItem>> changed = new TreeMap<>();
+        long stamp = lock.readLock();
+        try {
+            for (YearMonth month : months) {
+                changed.put(month, store.toItems(dateIndex.idsInRange(month.atDay(1), month.atEndOfMonth())));
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+        
+        boolean saved = partitions.saveSegments(changed, nextId.get());
+        if (!saved) {
+            dirtyMonths.addAll(months);
+        }
+        return saved;
+    }
+    
+    /**
+     * 저널을 기본 CSV 파일로 병합합니다.
+     */
+    public boolean compactJournal() {
+        if (readOnly) {
+            return false;
+        }
+        if (flusher != null) {
+            return saveData();
+        }
+        // 병합 중에 저널에 추가된 레코드가 삭제되지 않도록 저널 추가와 직렬화
+        synchronized (saveLock) {
+            boolean saved = fileHandler.compactJournal(snapshotItems());
+            if (saved) {
+                writeSnapshot();
+            }
+            return saved;
+        }
+    }
+    
+    /**
+     * 스냅샷이 CSV보다 최신이면 스냅샷에서, 아니면 CSV에서 항목을 읽습니다.
+     * 스냅샷 위에는 저널을 다시 재생하며, CSV에서 읽은 경우 스냅샷을 재생성합니다 (읽기 전용이면 재생성하지 않음).
+     */
+    private List<LedgerItem> readItems() {
+        if (snapshotHandler != null && snapshotHandler.isNewerThan(fileHandler.getFileName())) {
+            List<LedgerItem> snapshotItems = snapshotHandler.loadSnapshot();
+            if (snapshotItems != null) {
+                System.out.printf("스냅샷 %s에서 %d개의 항목을 불러왔습니다.%n",
+                    snapshotHandler.getFileName(), snapshotItems.size());
+                return fileHandler.replayJournal(snapshotItems);
+            }
+            System.out.println("스냅샷을 사용할 수 없어 CSV 파일에서 불러옵니다.");
+        }
+        
+        List<LedgerItem> loadedItems = fileHandler.loadFromFile();
+        if (snapshotHandler != null && !readOnly && fileHandler.fileExists()) {
+            snapshotHandler.saveToFile(loadedItems);
+        }
+        return loadedItems;
+    }
+    
+    /**
+     * 저장용으로 현재 항목을 ID 순서대로 복사합니다.
+     */
+    private List<LedgerItem> snapshotItems() {
+        long stamp = lock.readLock();
+        try {
+            return store.toItems();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+    
+    /**
+     * 스냅샷이 활성화되어 있으면 현재 항목으로 스냅샷을 다시 작성합니다.
+     */
+    private void writeSnapshot() {
+        if (snapshotHandler != null) {
+            snapshotHandler.saveToFile(snapshotItems());
+        }
+    }
+    
+    /**
+     * 아직 병합되지 않은 저널 레코드 수를 가져옵니다.
+     */
+    public int getPendingJournalRecords() {
+        return fileHandler.countJournalRecords();
+    }
+    
+    /**
+     * 저널 모드가 활성화되어 있는지 확인합니다.
+     */
+    public boolean isJournalMode() {
+        return journalMode;
     }
     
     /**
      * 데이터를 수동으로 파일에서 불러옵니다.
      */
     public boolean loadData(boolean overwrite) {
-        if (!overwrite && !items.isEmpty()) {
+        if (!overwrite && getItemCount() > 0) {
             System.out.println("이미 데이터가 불러와져 있습니다. 다시 불러오려면 overwrite=true를 사용하세요.");
             return false;
         }
         
-        List<LedgerItem> loadedItems = fileHandler.loadFromFile();
+        if (partitions != null) {
+            openPartitions();
+            return true;
+        }
+        
+        List<LedgerItem> loadedItems = readItems();
         if (loadedItems != null) {
-            items = loadedItems;
-            
-            // 다음 ID 재계산
-            if (!items.isEmpty()) {
-                nextId = items.stream()
-                    .mapToInt(LedgerItem::getId)
-                    .max()
-                    .orElse(0) + 1;
-            } else {
-                nextId = 1;
-            }
-            
+            // 메모리 상태, ID 인덱스, 다음 ID 재계산
+            setItems(loadedItems);
             return true;
         }
         
@@ -165,14 +1305,14 @@ public class LedgerService {
      * 영속성에 사용되는 파일명을 가져옵니다.
      */
     public String getFileName() {
-        return fileHandler.getFileName();
+        return partitions != null ? partitions.getFileName() : fileHandler.getFileName();
     }
     
     /**
      * 데이터 파일이 존재하는지 확인합니다.
      */
     public boolean dataFileExists() {
-        return fileHandler.fileExists();
+        return partitions != null ? partitions.exists() : fileHandler.fileExists();
     }
     
     /**
@@ -184,22 +1324,110 @@ public class LedgerService {
             return;
         }
         
-        System.out.println("==================================================================");
-        System.out.printf(" %-3s | %-12s | %-10s | %-11s | %-20s%n", 
-            "ID", "날짜", "카테고리", "금액", "메모");
-        System.out.println("------------------------------------------------------------------");
-        
+        TableRenderer table = openItemTable(System.out);
         for (LedgerItem item : itemsToDisplay) {
-            System.out.printf(" %-3d | %-12s | %-10s | %-11d | %-20s%n",
-                item.getId(),
-                item.getDate(),
-                item.getCategory(),
-                item.getAmount(),
-                item.getNote() != null ? item.getNote() : ""
-            );
+            renderItem(table, item);
+        }
+        table.rule('=').line("총 항목 수: " + itemsToDisplay.size()).flush();
+    }
+    
+    /**
+     * 커서에서 가져온 한 페이지를 표 형식으로 출력합니다.
+     */
+    public void displayPage(ItemCursor cursor, List<LedgerItem> page) {
+        if (page.isEmpty()) {
+            System.out.println("표시할 항목이 없습니다.");
+            return;
         }
         
-        System.out.println("==================================================================");
-        System.out.printf("총 항목 수: %d%n", itemsToDisplay.size());
+        TableRenderer table = openItemTable(System.out);
+        for (LedgerItem item : page) {
+            renderItem(table, item);
+        }
+        table.rule('=').line(String.format("페이지 %d/%d (총 항목 수: %d)",
+            cursor.getPageNumber(), cursor.getTotalPages(), cursor.getTotalCount())).flush();
+    }
+    
+    /**
+     * 커서의 남은 항목을 모두 하나의 표로 출력합니다 (페이저 출력용).
+     * 출력 대상이 닫히면(예: 사용자가 페이저를 종료) 나머지 페이지는 가져오지 않습니다.
+     * 출력한 항목 수를 반환합니다.
+     */
+    public int writeTable(ItemCursor cursor, PrintStream out) {
+        TableRenderer table = openItemTable(out);
+        int written = 0;
+        for (List<LedgerItem> page = cursor.nextPage(); !page.isEmpty(); page = cursor.nextPage()) {
+            for (LedgerItem item : page) {
+                if (!renderItem(table, item)) {
+                    return written;
+                }
+                written++;
+            }
+        }
+        table.rule('=').line("총 항목 수: " + written).flush();
+        return written;
+    }
+    
+    /**
+     * 월별, 카테고리별 집계를 표 형식으로 표시합니다.
+     */
+    public void displaySummary() {
+        ensureAllLoaded();
+        long stamp = lock.readLock();
+        try {
+            List<YearMonth> months = rollups.months();
+            if (months.isEmpty()) {
+                System.out.println("표시할 항목이 없습니다.");
+                return;
+            }
+            
+            TableRenderer table = new TableRenderer(System.out, 7, 10, 5, 15, 11, 11);
+            table.rule('=');
+            table.cell("연월").cell("카테고리").cell("건수").cell("합계").cell("최소").cell("최대").endRow();
+            table.rule('-');
+            
+            for (YearMonth month : months) {
+                String label = month.toString();
+                for (Category category : Category.values()) {
+                    RollupEngine.Summary summary = rollups.get(month, category);
+                    if (summary.getCount() > 0) {
+                        renderSummaryRow(table, label, category.getName(), summary);
+                    }
+                }
+                renderSummaryRow(table, label, "(합계)", rollups.getMonthTotal(month));
+                table.rule('-');
+            }
+            table.flush();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+    
+    private static void renderSummaryRow(TableRenderer table, String month, String label,
+            RollupEngine.Summary summary) {
+        table.cell(month).cell(label).cell(summary.getCount()).cell(summary.getSum())
+            .cell(summary.getMin()).cell(summary.getMax()).endRow();
+    }
+    
+    /**
+     * 항목 표의 머리글까지 준비된 렌더러를 만듭니다.
+     * ID 열 너비는 지금까지 발급된 가장 큰 ID에 맞추므로 행마다 다시 계산하지 않습니다.
+     */
+    private TableRenderer openItemTable(PrintStream out) {
+        int idWidth = Math.max(3, Integer.toString(nextId.get() - 1).length());
+        TableRenderer table = new TableRenderer(out, idWidth, 12, 10, 11, 20);
+        table.rule('=');
+        table.cell("ID").cell("날짜").cell("카테고리").cell("금액").cell("메모").endRow();
+        table.rule('-');
+        return table;
+    }
+    
+    private static boolean renderItem(TableRenderer table, LedgerItem item) {
+        return table.cell(item.getId())
+            .cell(item.getDate())
+            .cell(item.getCategory())
+            .cell(item.getAmount())
+            .cell(item.getNote())
+            .endRow();
     }
 }
\ No newline at end of file
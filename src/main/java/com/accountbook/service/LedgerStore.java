@@ -0,0 +1,213 @@
+package com.accountbook.service;
+
+import com.accountbook.model.Category;
+import com.accountbook.model.LedgerItem;
+import com.accountbook.util.IntIntHashMap;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * 가계부 항목을 열(column) 단위의 기본형 배열로 보관하는 저장소입니다.
+ * 항목마다 객체를 두지 않으므로 메모리 사용량이 적고, 스캔과 집계가
+ * 캐시 친화적인 연속 배열 위에서 수행됩니다. LedgerItem 객체는 API 경계에서만 만듭니다.
+ *
+ * 행은 슬롯 번호로 접근하며, 삭제 시 마지막 행을 빈 슬롯으로 옮기므로(swap-remove)
+ * 슬롯 순서는 ID 순서와 다를 수 있습니다. ID 순서 순회는 ID 비트맵을 사용합니다.
+ */
+public class LedgerStore {
+    
+    private static final int INITIAL_CAPACITY = 16;
+    
+    private int[] ids = new int[INITIAL_CAPACITY];
+    private int[] epochDays = new int[INITIAL_CAPACITY];
+    private byte[] categories = new byte[INITIAL_CAPACITY];
+    private int[] amounts = new int[INITIAL_CAPACITY];
+    private String[] notes = new String[INITIAL_CAPACITY];
+    private int size;
+    
+    // 기본 키 인덱스: ID -> 슬롯 번호
+    private final IntIntHashMap slotById = new IntIntHashMap(-1);
+    
+    // 살아 있는 ID 비트맵 (ID 순서 순회용)
+    private final BitSet liveIds = new BitSet();
+    
+    /**
+     * 항목을 추가합니다. 같은 ID가 이미 있으면 해당 행을 덮어씁니다.
+     * 항목이 들어간 슬롯 번호를 반환합니다.
+     */
+    public int add(int id, int epochDay, int category, int amount, String note) {
+        int slot = slotById.get(id);
+        if (slot < 0) {
+            ensureCapacity(size + 1);
+            slot = size++;
+            slotById.put(id, slot);
+            liveIds.set(id);
+        }
+        
+        ids[slot] = id;
+        epochDays[slot] = epochDay;
+        categories[slot] = (byte) category;
+        amounts[slot] = amount;
+        notes[slot] = note != null ? note : "";
+        return slot;
+    }
+    
+    /**
+     * LedgerItem을 열로 분해하여 추가합니다.
+     */
+    public int add(LedgerItem item) {
+        return add(item.getId(), (int) item.getDate().toEpochDay(),
+            item.getCategoryType().ordinal(), item.getAmount(), item.getNote());
+    }
+    
+    /**
+     * ID로 항목을 삭제합니다. 마지막 행을 빈 슬롯으로 옮겨 배열 이동을 피합니다.
+     */
+    public boolean remove(int id) {
+        int slot = slotById.remove(id);
+        if (slot < 0) {
+            return false;
+        }
+        liveIds.clear(id);
+        
+        int last = --size;
+        if (slot != last) {
+            ids[slot] = ids[last];
+            epochDays[slot] = epochDays[last];
+            categories[slot] = categories[last];
+            amounts[slot] = amounts[last];
+            notes[slot] = notes[last];
+            slotById.put(ids[slot], slot);
+        }
+        notes[last] = null;
+        return true;
+    }
+    
+    /**
+     * 모든 항목을 제거합니다.
+     */
+    public void clear() {
+        Arrays.fill(notes, 0, size, null);
+        size = 0;
+        slotById.clear();
+        liveIds.clear();
+    }
+    
+    /**
+     * ID가 있는 슬롯 번호를 가져옵니다 (없으면 -1).
+     */
+    public int slotOf(int id) {
+        return slotById.get(id);
+    }
+    
+    public boolean contains(int id) {
+        return slotById.containsKey(id);
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * 주어진 ID 이상인 첫 번째 ID를 가져옵니다 (없으면 -1). ID 순서 순회에 사용합니다.
+     */
+    public int nextId(int fromId) {
+        return liveIds.nextSetBit(Math.max(0, fromId));
+    }
+    
+    /**
+     * 주어진 ID 이하인 마지막 ID를 가져옵니다 (없으면 -1).
+     */
+    public int previousId(int fromId) {
+        return fromId < 0 ? -1 : liveIds.previousSetBit(fromId);
+    }
+    
+    /**
+     * 가장 큰 ID를 가져옵니다 (비어 있으면 0).
+     */
+    public int maxId() {
+        return Math.max(0, liveIds.length() - 1);
+    }
+    
+    /**
+     * 살아 있는 ID 비트맵의 복사본을 가져옵니다.
+     */
+    public BitSet idSet() {
+        return (BitSet) liveIds.clone();
+    }
+    
+    // 열 접근자 (슬롯 기준)
+    
+    public int id(int slot) {
+        return ids[slot];
+    }
+    
+    public int epochDay(int slot) {
+        return epochDays[slot];
+    }
+    
+    public int category(int slot) {
+        return categories[slot];
+    }
+    
+    public int amount(int slot) {
+        return amounts[slot];
+    }
+    
+    public String note(int slot) {
+        return notes[slot];
+    }
+    
+    /**
+     * 슬롯의 행으로 LedgerItem 객체를 만듭니다.
+     */
+    public LedgerItem materialize(int slot) {
+        return new LedgerItem(ids[slot], LocalDate.ofEpochDay(epochDays[slot]), amounts[slot],
+            Category.fromOrdinal(categories[slot]).getName(), notes[slot]);
+    }
+    
+    /**
+     * ID로 LedgerItem 객체를 만듭니다. 없으면 null을 반환합니다.
+     */
+    public LedgerItem get(int id) {
+        int slot = slotById.get(id);
+        return slot >= 0 ? materialize(slot) : null;
+    }
+    
+    /**
+     * 모든 항목을 ID 오름차순으로 LedgerItem 목록으로 만듭니다.
+     */
+    public List<LedgerItem> toItems() {
+        List<LedgerItem> result = new ArrayList<>(size);
+        for (int id = liveIds.nextSetBit(0); id >= 0; id = liveIds.nextSetBit(id + 1)) {
+            result.add(materialize(slotById.get(id)));
+        }
+        return result;
+    }
+    
+    /**
+     * 주어진 ID들을 순서대로 LedgerItem 목록으로 만듭니다.
+     */
+    public List<LedgerItem> toItems(int[] idList) {
+        List<LedgerItem> result = new ArrayList<>(idList.length);
+        for (int id : idList) {
+            result.add(materialize(slotById.get(id)));
+        }
+        return result;
+    }
+    
+    private void ensureCapacity(int capacity) {
+        if (capacity <= ids.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, ids.length + (ids.length >> 1));
+        ids = Arrays.copyOf(ids, newCapacity);
+        epochDays = Arrays.copyOf(epochDays, newCapacity);
+        categories = Arrays.copyOf(categories, newCapacity);
+        amounts = Arrays.copyOf(amounts, newCapacity);
+        notes = Arrays.copyOf(notes, newCapacity);
+    }
+}
@@ -0,0 +1,254 @@
+package com.accountbook.service;
+
+import com.accountbook.util.SortedIntList;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 메모 텍스트에 대한 역색인(inverted index)입니다.
+ * 메모를 공백으로 토큰화한 뒤 각 토큰의 글자 1-gram과 2-gram을 정렬된 ID 목록에 기록합니다.
+ * 한국어 메모는 조사가 붙거나 띄어쓰기가 일정하지 않으므로 토큰 단위가 아닌
+ * n-gram 교집합으로 후보를 좁히고, 세 글자 이상의 검색어만 원문과 대조합니다.
+ *
+ * 한글 2-gram은 종류가 매우 많고 대부분 몇 개의 메모에만 나오므로, ID 범위 크기의 비트맵 대신
+ * 해당 ID만 담은 희소 목록을 사용합니다 (메모리는 n-gram 출현 횟수에 비례).
+ */
+public class NoteIndex {
+    
+    // 이 행 수 이하의 구간은 병렬 재구성 시 더 나누지 않음
+    private static final int REBUILD_THRESHOLD = 1 << 12;
+    
+    private final LedgerStore store;
+    private final ForkJoinPool pool;
+    private Map<String, SortedIntList> postings = new HashMap<>();
+    
+    public NoteIndex(LedgerStore store) {
+        this(store, ForkJoinPool.commonPool());
+    }
+    
+    public NoteIndex(LedgerStore store, ForkJoinPool pool) {
+        this.store = store;
+        this.pool = pool;
+    }
+    
+    /**
+     * 항목의 메모를 인덱스에 추가합니다.
+     */
+    public void add(int id, String note) {
+        addTo(postings, id, note);
+    }
+    
+    /**
+     * 항목의 메모를 인덱스에서 제거합니다. 비게 된 n-gram은 함께 제거합니다.
+     */
+    public void remove(int id, String note) {
+        for (String gram : grams(note)) {
+            SortedIntList ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+    
+    /**
+     * 저장소의 모든 메모로 인덱스를 다시 만듭니다. 구간별로 나누어 병렬로 만든 뒤 합칩니다.
+     */
+    public void rebuild() {
+        RebuildTask task = new RebuildTask(0, store.size());
+        postings = store.size() <= REBUILD_THRESHOLD ? task.compute() : pool.invoke(task);
+    }
+    
+    public void clear() {
+        postings.clear();
+    }
+    
+    /**
+     * 공백으로 구분된 모든 검색어를 메모에 포함하는 항목의 ID 비트맵을 가져옵니다.
+     * 대소문자는 구분하지 않으며, 검색어가 비어 있으면 빈 결과를 반환합니다.
+     */
+    public BitSet search(String query) {
+        BitSet result = new BitSet();
+        List<String> terms = tokenize(query);
+        List<SortedIntList> lists = new ArrayList<>();
+        for (String term : terms) {
+            if (!addPostings(term, lists)) {
+                return result;
+            }
+        }
+        if (lists.isEmpty()) {
+            return result;
+        }
+        
+        // 2-gram 교집합은 세 글자 이상 검색어의 연속성을 보장하지 않으므로 원문과 대조
+        List<String> longTerms = new ArrayList<>();
+        for (String term : terms) {
+            if (term.length() > 2) {
+                longTerms.add(term);
+            }
+        }
+        
+        // 가장 짧은 목록의 각 ID가 나머지 목록에 모두 있는지 이진 탐색으로 확인
+        lists.sort(Comparator.comparingInt(SortedIntList::size));
+        SortedIntList shortest = lists.get(0);
+        candidates:
+        for (int i = 0; i < shortest.size(); i++) {
+            int id = shortest.get(i);
+            for (int j = 1; j < lists.size(); j++) {
+                if (!lists.get(j).contains(id)) {
+                    continue candidates;
+                }
+            }
+            if (longTerms.isEmpty() || containsAll(store.note(store.slotOf(id)), longTerms)) {
+                result.set(id);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * 검색 결과 수의 상한을 추정합니다 (검색어 n-gram 중 가장 드문 것의 항목 수).
+     */
+    public int estimate(String query) {
+        List<SortedIntList> lists = new ArrayList<>();
+        for (String term : tokenize(query)) {
+            if (!addPostings(term, lists)) {
+                return 0;
+            }
+        }
+        int estimate = Integer.MAX_VALUE;
+        for (SortedIntList ids : lists) {
+            estimate = Math.min(estimate, ids.size());
+        }
+        return estimate == Integer.MAX_VALUE ? 0 : estimate;
+    }
+    
+    /**
+     * 메모가 검색어의 모든 단어를 포함하는지 원문으로 확인합니다 (인덱스를 쓰지 않는 필터용).
+     */
+    static boolean matches(String note, List<String> terms) {
+        return containsAll(note, terms);
+    }
+    
+    /**
+     * 검색어의 모든 n-gram의 ID 목록을 추가합니다. 없는 n-gram이 있으면(결과가 비면) false를 반환합니다.
+     */
+    private boolean addPostings(String term, List<SortedIntList> lists) {
+        int gramLength = term.length() == 1 ? 1 : 2;
+        for (int i = 0; i + gramLength <= term.length(); i++) {
+            SortedIntList ids = postings.get(term.substring(i, i + gramLength));
+            if (ids == null) {
+                return false;
+            }
+            lists.add(ids);
+        }
+        return true;
+    }
+    
+    private static boolean containsAll(String note, List<String> terms) {
+        String text = note.toLowerCase(Locale.ROOT);
+        for (String term : terms) {
+            if (!text.contains(term)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static void addTo(Map<String, SortedIntList> target, int id, String note) {
+        for (String gram : grams(note)) {
+            SortedIntList ids = target.get(gram);
+            if (ids == null) {
+                ids = new SortedIntList(2);
+                target.put(gram, ids);
+            }
+            ids.add(id);
+        }
+    }
+    
+    /**
+     * 메모의 서로 다른 1-gram과 2-gram을 모읍니다 (같은 n-gram이 여러 번 나와도 ID는 한 번만 기록).
+     */
+    private static Set<String> grams(String note) {
+        Set<String> grams = new HashSet<>();
+        for (String token : tokenize(note)) {
+            for (int i = 0; i < token.length(); i++) {
+                grams.add(token.substring(i, i + 1));
+                if (i + 1 < token.length()) {
+                    grams.add(token.substring(i, i + 2));
+                }
+            }
+        }
+        return grams;
+    }
+    
+    /**
+     * 텍스트를 소문자로 바꾸고 공백 기준으로 나눕니다.
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("\\s+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+    
+    /**
+     * 슬롯 구간 [from, to)의 메모로 부분 인덱스를 만드는 작업입니다.
+     */
+    private class RebuildTask extends RecursiveTask<Map<String, SortedIntList>> {
+        private static final long serialVersionUID = 1L;
+        
+        private final int from;
+        private final int to;
+        
+        RebuildTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+        
+        @Override
+        protected Map<String, SortedIntList> compute() {
+            if (to - from <= REBUILD_THRESHOLD) {
+                Map<String, SortedIntList> partial = new HashMap<>();
+                for (int slot = from; slot < to; slot++) {
+                    addTo(partial, store.id(slot), store.note(slot));
+                }
+                return partial;
+            }
+            
+            int mid = (from + to) >>> 1;
+            RebuildTask left = new RebuildTask(from, mid);
+            left.fork();
+            Map<String, SortedIntList> right = new RebuildTask(mid, to).compute();
+            Map<String, SortedIntList> merged = left.join();
+            
+            // 정렬된 ID 목록을 병합
+            for (Map.Entry<String, SortedIntList> entry : right.entrySet()) {
+                SortedIntList ids = merged.get(entry.getKey());
+                if (ids == null) {
+                    merged.put(entry.getKey(), entry.getValue());
+                } else {
+                    ids.addAll(entry.getValue());
+                }
+            }
+            return merged;
+        }
+    }
+}
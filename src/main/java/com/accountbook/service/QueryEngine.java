@@ -0,0 +1,236 @@
+package com.accountbook.service;
+
+import com.accountbook.model.Category;
+import com.accountbook.model.LedgerItem;
+import com.accountbook.util.TopKSelector;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.IntPredicate;
+
+/**
+ * LedgerQuery를 실행하는 엔진입니다.
+ * 조건마다 후보 수를 추정해 가장 선택적인 접근 경로(메모 역색인, 날짜 인덱스,
+ * 카테고리 비트맵, 전체 열 스캔)를 고르고, 나머지 조건은 슬롯의 열 값을 직접 읽는
+ * 필터로 컴파일하여 후보에만 적용합니다.
+ *
+ * 호출하는 쪽(LedgerService)이 실행 중 변경을 막아야 합니다.
+ */
+public class QueryEngine {
+    
+    private final LedgerStore store;
+    private final DateIndex dateIndex;
+    private final CategoryIndex categoryIndex;
+    private final NoteIndex noteIndex;
+    
+    public QueryEngine(LedgerStore store, DateIndex dateIndex, CategoryIndex categoryIndex, NoteIndex noteIndex) {
+        this.store = store;
+        this.dateIndex = dateIndex;
+        this.categoryIndex = categoryIndex;
+        this.noteIndex = noteIndex;
+    }
+    
+    /**
+     * 조회의 실행 계획을 세웁니다.
+     */
+    public QueryPlan plan(LedgerQuery query) {
+        QueryPlan.AccessPath best = QueryPlan.AccessPath.FULL_SCAN;
+        int bestRows = store.size();
+        
+        if (query.hasNoteText()) {
+            int rows = noteIndex.estimate(query.getNoteText());
+            if (rows < bestRows) {
+                best = QueryPlan.AccessPath.NOTE_INDEX;
+                bestRows = rows;
+            }
+        }
+        if (query.hasDateRange()) {
+            int rows = dateIndex.countInRange(fromDay(query), toDay(query));
+            if (rows < bestRows) {
+                best = QueryPlan.AccessPath.DATE_INDEX;
+                bestRows = rows;
+            }
+        }
+        if (query.hasCategories()) {
+            int rows = 0;
+            for (Category category : query.getCategories()) {
+                rows += categoryIndex.count(category);
+            }
+            if (rows < bestRows) {
+                best = QueryPlan.AccessPath.CATEGORY_INDEX;
+                bestRows = rows;
+            }
+        }
+        
+        List<String> filters = new ArrayList<>();
+        if (query.hasNoteText() && best != QueryPlan.AccessPath.NOTE_INDEX) {
+            filters.add("메모 '" + query.getNoteText() + "'");
+        }
+        if (query.hasDateRange() && best != QueryPlan.AccessPath.DATE_INDEX) {
+            filters.add("날짜");
+        }
+        if (query.hasCategories() && best != QueryPlan.AccessPath.CATEGORY_INDEX) {
+            filters.add("카테고리");
+        }
+        if (query.hasAmountRange()) {
+            filters.add("금액");
+        }
+        return new QueryPlan(best, bestRows, filters);
+    }
+    
+    /**
+     * 조건에 맞는 항목의 ID를 비트맵으로 가져옵니다. limit이 있으면 ID가 작은 순으로 자릅니다.
+     * 상위 K개 조건은 적용하지 않습니다.
+     */
+    public BitSet matchingIds(LedgerQuery query) {
+        QueryPlan plan = plan(query);
+        IntPredicate filter = compileFilter(query, plan.getAccessPath());
+        int limit = query.getLimit() > 0 ? query.getLimit() : Integer.MAX_VALUE;
+        BitSet result = new BitSet();
+        
+        BitSet candidates = candidates(query, plan.getAccessPath());
+        if (candidates == null) {
+            // 전체 스캔은 슬롯 순서로 열을 연속해서 읽음
+            for (int slot = 0; slot < store.size(); slot++) {
+                if (filter == null || filter.test(slot)) {
+                    result.set(store.id(slot));
+                }
+            }
+            truncate(result, limit);
+            return result;
+        }
+        
+        int count = 0;
+        for (int id = candidates.nextSetBit(0); id >= 0 && count < limit; id = candidates.nextSetBit(id + 1)) {
+            int slot = store.slotOf(id);
+            if (slot >= 0 && (filter == null || filter.test(slot))) {
+                result.set(id);
+                count++;
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * 조회를 실행합니다. 상위 K개 조건이 있으면 금액 내림차순, 없으면 ID 오름차순입니다.
+     */
+    public List<LedgerItem> execute(LedgerQuery query) {
+        return store.toItems(resultIds(query));
+    }
+    
+    /**
+     * 조회 결과의 ID를 결과 순서대로 가져옵니다.
+     * 상위 K개 조건이 있으면 금액 내림차순, 없으면 ID 오름차순입니다.
+     */
+    public int[] resultIds(LedgerQuery query) {
+        if (query.getTopK() <= 0) {
+            return matchingIds(query).stream().toArray();
+        }
+        
+        QueryPlan plan = plan(query);
+        IntPredicate filter = compileFilter(query, plan.getAccessPath());
+        int k = query.getLimit() > 0 ? Math.min(query.getTopK(), query.getLimit()) : query.getTopK();
+        
+        // 금액 열만 읽어 크기 k의 힙으로 선택하고, 선택된 k개만 객체로 만듦
+        TopKSelector selector = new TopKSelector(Math.min(k, Math.max(1, store.size())));
+        BitSet candidates = candidates(query, plan.getAccessPath());
+        if (candidates == null) {
+            for (int slot = 0; slot < store.size(); slot++) {
+                if (filter == null || filter.test(slot)) {
+                    selector.offer(store.amount(slot), store.id(slot));
+                }
+            }
+        } else {
+            for (int id = candidates.nextSetBit(0); id >= 0; id = candidates.nextSetBit(id + 1)) {
+                int slot = store.slotOf(id);
+                if (slot >= 0 && (filter == null || filter.test(slot))) {
+                    selector.offer(store.amount(slot), id);
+                }
+            }
+        }
+        
+        return selector.drainDescending();
+    }
+    
+    /**
+     * 접근 경로로 후보 ID 비트맵을 가져옵니다. 전체 스캔이면 null을 반환합니다.
+     */
+    private BitSet candidates(LedgerQuery query, QueryPlan.AccessPath path) {
+        switch (path) {
+            case NOTE_INDEX:
+                return noteIndex.search(query.getNoteText());
+            case DATE_INDEX:
+                return dateIndex.idSetInRange(fromDay(query), toDay(query));
+            case CATEGORY_INDEX:
+                BitSet ids = new BitSet();
+                for (Category category : query.getCategories()) {
+                    ids.or(categoryIndex.postings(category));
+                }
+                return ids;
+            default:
+                return null;
+        }
+    }
+    
+    /**
+     * 접근 경로가 처리하지 않는 조건을 슬롯 단위 필터로 만듭니다. 남은 조건이 없으면 null입니다.
+     */
+    private IntPredicate compileFilter(LedgerQuery query, QueryPlan.AccessPath path) {
+        IntPredicate filter = null;
+        
+        if (query.hasDateRange() && path != QueryPlan.AccessPath.DATE_INDEX) {
+            int from = fromDay(query);
+            int to = toDay(query);
+            filter = and(filter, slot -> store.epochDay(slot) >= from && store.epochDay(slot) <= to);
+        }
+        if (query.hasCategories() && path != QueryPlan.AccessPath.CATEGORY_INDEX) {
+            int mask = categoryMask(query.getCategories());
+            filter = and(filter, slot -> (mask & (1 << store.category(slot))) != 0);
+        }
+        if (query.hasAmountRange()) {
+            int min = query.getMinAmount();
+            int max = query.getMaxAmount();
+            filter = and(filter, slot -> store.amount(slot) >= min && store.amount(slot) <= max);
+        }
+        if (query.hasNoteText() && path != QueryPlan.AccessPath.NOTE_INDEX) {
+            // 문자열 비교가 가장 비싸므로 마지막에 확인
+            List<String> terms = NoteIndex.tokenize(query.getNoteText());
+            filter = and(filter, slot -> NoteIndex.matches(store.note(slot), terms));
+        }
+        return filter;
+    }
+    
+    private static IntPredicate and(IntPredicate first, IntPredicate second) {
+        return first == null ? second : first.and(second);
+    }
+    
+    private static int categoryMask(Set<Category> categories) {
+        int mask = 0;
+        for (Category category : categories) {
+            mask |= 1 << category.ordinal();
+        }
+        return mask;
+    }
+    
+    private static int fromDay(LedgerQuery query) {
+        return query.getStartDate() != null ? (int) query.getStartDate().toEpochDay() : Integer.MIN_VALUE;
+    }
+    
+    private static int toDay(LedgerQuery query) {
+        return query.getEndDate() != null ? (int) query.getEndDate().toEpochDay() : Integer.MAX_VALUE;
+    }
+    
+    /**
+     * 비트맵에서 작은 ID부터 limit개만 남깁니다.
+     */
+    private static void truncate(BitSet ids, int limit) {
+        int count = 0;
+        for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+            if (++count > limit) {
+                ids.clear(id, ids.length());
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.accountbook.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * QueryEngine이 선택한 실행 계획입니다. 후보를 가져올 접근 경로와
+ * 후보마다 열에서 직접 확인할 나머지 조건을 담습니다.
+ */
+public class QueryPlan {
+    
+    /**
+     * 후보 항목을 가져오는 방법입니다.
+     */
+    public enum AccessPath {
+        NOTE_INDEX("메모 역색인"),
+        DATE_INDEX("날짜 인덱스"),
+        CATEGORY_INDEX("카테고리 비트맵"),
+        FULL_SCAN("전체 열 스캔");
+        
+        private final String description;
+        
+        AccessPath(String description) {
+            this.description = description;
+        }
+        
+        public String getDescription() {
+            return description;
+        }
+    }
+    
+    private final AccessPath accessPath;
+    private final int estimatedRows;
+    private final List<String> filters;
+    
+    QueryPlan(AccessPath accessPath, int estimatedRows, List<String> filters) {
+        this.accessPath = accessPath;
+        this.estimatedRows = estimatedRows;
+        this.filters = new ArrayList<>(filters);
+    }
+    
+    public AccessPath getAccessPath() {
+        return accessPath;
+    }
+    
+    /**
+     * 접근 경로가 반환할 것으로 예상되는 후보 수입니다.
+     */
+    public int getEstimatedRows() {
+        return estimatedRows;
+    }
+    
+    /**
+     * 후보에 추가로 적용되는 조건 목록입니다.
+     */
+    public List<String> getFilters() {
+        return new ArrayList<>(filters);
+    }
+    
+    @Override
+    public String toString() {
+        String text = String.format("%s (예상 후보 %d건)", accessPath.getDescription(), estimatedRows);
+        return filters.isEmpty() ? text : text + " + 필터: " + String.join(", ", filters);
+    }
+}
@@ -0,0 +1,238 @@
+package com.accountbook.service;
+
+import com.accountbook.model.Category;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * (연월, 카테고리) 버킷별로 합계, 건수, 최소, 최대 금액을 유지하는 집계 엔진입니다.
+ * 항목 추가/삭제 시 해당 버킷만 O(1)로 갱신하므로 보고서는 스캔 없이 조회만으로 만들어집니다.
+ *
+ * 삭제된 금액이 버킷의 최소/최대값이었다면 그 버킷만 무효로 표시했다가,
+ * 다음 조회 때 날짜 인덱스로 그 달의 항목만 훑어 다시 계산합니다.
+ */
+public class RollupEngine {
+    
+    private final LedgerStore store;
+    private final DateIndex dateIndex;
+    
+    // 연월(year * 12 + month - 1) -> 카테고리 순서별 버킷
+    private final TreeMap<Integer, Bucket[]> bucketsByMonth = new TreeMap<>();
+    
+    public RollupEngine(LedgerStore store, DateIndex dateIndex) {
+        this.store = store;
+        this.dateIndex = dateIndex;
+    }
+    
+    /**
+     * 항목 하나를 해당 버킷에 더합니다.
+     */
+    public void add(int epochDay, int category, int amount) {
+        int month = monthKey(epochDay);
+        Bucket[] buckets = bucketsByMonth.get(month);
+        if (buckets == null) {
+            buckets = new Bucket[Category.count()];
+            bucketsByMonth.put(month, buckets);
+        }
+        if (buckets[category] == null) {
+            buckets[category] = new Bucket();
+        }
+        buckets[category].add(amount);
+    }
+    
+    /**
+     * 항목 하나를 해당 버킷에서 뺍니다.
+     */
+    public void remove(int epochDay, int category, int amount) {
+        int month = monthKey(epochDay);
+        Bucket[] buckets = bucketsByMonth.get(month);
+        if (buckets == null || buckets[category] == null) {
+            return;
+        }
+        
+        buckets[category].remove(amount);
+        if (buckets[category].count == 0) {
+            buckets[category] = null;
+            if (isEmpty(buckets)) {
+                bucketsByMonth.remove(month);
+            }
+        }
+    }
+    
+    /**
+     * 모든 버킷을 제거합니다.
+     */
+    public void clear() {
+        bucketsByMonth.clear();
+    }
+    
+    /**
+     * 집계가 있는 연월 목록을 오름차순으로 가져옵니다.
+     */
+    public List<YearMonth> months() {
+        List<YearMonth> result = new ArrayList<>(bucketsByMonth.size());
+        for (int month : bucketsByMonth.keySet()) {
+            result.add(YearMonth.of(month / 12, month % 12 + 1));
+        }
+        return result;
+    }
+    
+    /**
+     * 연월과 카테고리의 집계를 가져옵니다. 항목이 없으면 건수 0인 요약을 반환합니다.
+     */
+    public Summary get(YearMonth yearMonth, Category category) {
+        int month = monthKey(yearMonth);
+        Bucket[] buckets = bucketsByMonth.get(month);
+        if (buckets == null || buckets[category.ordinal()] == null) {
+            return Summary.EMPTY;
+        }
+        return refresh(month, category.ordinal(), buckets[category.ordinal()]).toSummary();
+    }
+    
+    /**
+     * 연월 전체(모든 카테고리)의 집계를 가져옵니다.
+     */
+    public Summary getMonthTotal(YearMonth yearMonth) {
+        int month = monthKey(yearMonth);
+        Bucket[] buckets = bucketsByMonth.get(month);
+        if (buckets == null) {
+            return Summary.EMPTY;
+        }
+        
+        Bucket total = new Bucket();
+        for (int category = 0; category < buckets.length; category++) {
+            if (buckets[category] != null) {
+                total.merge(refresh(month, category, buckets[category]));
+            }
+        }
+        return total.toSummary();
+    }
+    
+    /**
+     * 최소/최대값이 무효가 된 버킷을 그 달의 항목만으로 다시 계산합니다 (그 달의 항목 수에 비례).
+     * 조회 스레드 여러 개가 동시에 호출할 수 있으므로 버킷 단위로 직렬화합니다.
+     */
+    private Bucket refresh(int month, int category, Bucket bucket) {
+        if (!bucket.stale) {
+            return bucket;
+        }
+        
+        synchronized (bucket) {
+            if (!bucket.stale) {
+                return bucket;
+            }
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            YearMonth yearMonth = YearMonth.of(month / 12, month % 12 + 1);
+            for (int id : dateIndex.idsInRange(yearMonth.atDay(1), yearMonth.atEndOfMonth())) {
+                int slot = store.slotOf(id);
+                if (store.category(slot) == category) {
+                    min = Math.min(min, store.amount(slot));
+                    max = Math.max(max, store.amount(slot));
+                }
+            }
+            bucket.min = min;
+            bucket.max = max;
+            bucket.stale = false;
+        }
+        return bucket;
+    }
+    
+    private static boolean isEmpty(Bucket[] buckets) {
+        for (Bucket bucket : buckets) {
+            if (bucket != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static int monthKey(int epochDay) {
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+        return date.getYear() * 12 + date.getMonthValue() - 1;
+    }
+    
+    private static int monthKey(YearMonth yearMonth) {
+        return yearMonth.getYear() * 12 + yearMonth.getMonthValue() - 1;
+    }
+    
+    /**
+     * 버킷의 변경 가능한 누적값입니다.
+     */
+    private static class Bucket {
+        long sum;
+        int count;
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        // 재계산된 min/max가 다른 조회 스레드에 보이도록 volatile로 발행
+        volatile boolean stale;
+        
+        void add(int amount) {
+            sum += amount;
+            count++;
+            min = Math.min(min, amount);
+            max = Math.max(max, amount);
+        }
+        
+        void remove(int amount) {
+            sum -= amount;
+            count--;
+            if (count > 0 && (amount == min || amount == max)) {
+                stale = true;
+            }
+        }
+        
+        void merge(Bucket other) {
+            sum += other.sum;
+            count += other.count;
+            min = Math.min(min, other.min);
+            max = Math.max(max, other.max);
+        }
+        
+        Summary toSummary() {
+            return count == 0 ? Summary.EMPTY : new Summary(sum, count, min, max);
+        }
+    }
+    
+    /**
+     * 집계 결과를 담는 불변 객체입니다.
+     */
+    public static class Summary {
+        static final Summary EMPTY = new Summary(0, 0, 0, 0);
+        
+        private final long sum;
+        private final int count;
+        private final int min;
+        private final int max;
+        
+        Summary(long sum, int count, int min, int max) {
+            this.sum = sum;
+            this.count = count;
+            this.min = min;
+            this.max = max;
+        }
+        
+        public long getSum() {
+            return sum;
+        }
+        
+        public int getCount() {
+            return count;
+        }
+        
+        public int getMin() {
+            return min;
+        }
+        
+        public int getMax() {
+            return max;
+        }
+        
+        public long getAverage() {
+            return count == 0 ? 0 : sum / count;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.accountbook.service;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * 변경 사항을 모아 백그라운드 스레드에서 한 번에 저장하는 write-behind 플러셔입니다.
+ * 변경이 일정 개수 이상 쌓이거나 첫 변경 후 일정 시간이 지나면 저장하며,
+ * 그 사이의 연속된 추가/삭제는 한 번의 저장으로 합쳐집니다.
+ */
+public class WriteBehindFlusher {
+    
+    private final BooleanSupplier saver;
+    private final long flushIntervalMillis;
+    private final int flushBatchSize;
+    private final Thread worker;
+    
+    // 모든 상태는 this 모니터로 보호됨
+    private long dirtyVersion;
+    private long durableVersion;
+    private boolean closing;
+    
+    // 저장되지 않은 변경 중 가장 오래된 것의 시각 (진행 중인 저장에 포함된 변경은 제외)
+    private long firstDirtyAt;
+    
+    // 진행 중인 저장이 기록하는 버전과, 그 저장이 시작된 뒤 처음 들어온 변경의 시각
+    private boolean saving;
+    private long savingVersion;
+    private long dirtyDuringSaveAt;
+    
+    // flushAndWait가 저장을 요청한 가장 높은 버전 (0이면 요청 없음)
+    private long requestedVersion;
+    
+    // 시작된 저장의 일련번호와 마지막으로 실패한 저장의 일련번호
+    private long flushSequence;
+    private long lastFailedFlush;
+    
+    /**
+     * @param saver 현재 메모리 상태를 저장하는 작업 (성공 시 true)
+     * @param flushIntervalMillis 첫 변경 후 저장까지 기다리는 최대 시간
+     * @param flushBatchSize 이 개수만큼 변경이 쌓이면 즉시 저장
+     */
+    public WriteBehindFlusher(BooleanSupplier saver, long flushIntervalMillis, int flushBatchSize) {
+        this.saver = saver;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.flushBatchSize = flushBatchSize;
+        this.worker = new Thread(this::run, "ledger-write-behind");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+    
+    /**
+     * 메모리 상태가 변경되었음을 알립니다.
+     */
+    public synchronized void markDirty() {
+        boolean wasClean = dirtyVersion == durableVersion;
+        if (wasClean) {
+            firstDirtyAt = System.currentTimeMillis();
+        } else if (saving && dirtyVersion == savingVersion) {
+            // 진행 중인 저장에 포함되지 않는 첫 변경: 저장이 끝난 뒤 이 시각부터 대기 시간을 계산
+            dirtyDuringSaveAt = System.currentTimeMillis();
+        }
+        dirtyVersion++;
+        // 처음 변경될 때는 시간 기준 대기를 시작하도록, 개수 기준에 도달하면 즉시 저장하도록 깨움
+        if (wasClean || dirtyVersion - durableVersion >= flushBatchSize) {
+            notifyAll();
+        }
+    }
+    
+    /**
+     * 대기 중인 변경 사항을 즉시 저장하고 완료될 때까지 기다립니다.
+     * 다른 저장이 진행 중이면 그 저장이 끝난 직후 이어서 저장합니다.
+     */
+    public synchronized boolean flushAndWait() {
+        long target = dirtyVersion;
+        if (durableVersion >= target) {
+            return true;
+        }
+        
+        requestedVersion = Math.max(requestedVersion, target);
+        // 진행 중인 저장이 이미 요청한 버전을 포함하면 그 저장의 결과를 그대로 따름
+        long requestedAt = saving && savingVersion >= target ? flushSequence - 1 : flushSequence;
+        notifyAll();
+        try {
+            while (durableVersion < target && worker.isAlive()) {
+                wait();
+                // 요청 이후 시작된 저장(요청한 버전을 포함)이 실패했다면 재시도를 기다리지 않고 실패를 반환
+                if (lastFailedFlush > requestedAt) {
+                    return false;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return durableVersion >= target;
+    }
+    
+    /**
+     * 모든 변경 사항이 저장되었는지 확인합니다.
+     */
+    public synchronized boolean isDurable() {
+        return durableVersion == dirtyVersion;
+    }
+    
+    /**
+     * 아직 저장되지 않은 변경 수를 가져옵니다.
+     */
+    public synchronized long getPendingCount() {
+        return dirtyVersion - durableVersion;
+    }
+    
+    /**
+     * 남은 변경 사항을 저장하고 백그라운드 스레드를 종료합니다.
+     */
+    public boolean close() {
+        synchronized (this) {
+            if (closing) {
+                return isDurable();
+            }
+            closing = true;
+            notifyAll();
+        }
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return isDurable();
+    }
+    
+    private void run() {
+        while (true) {
+            long target;
+            synchronized (this) {
+                try {
+                    while (!shouldFlush()) {
+                        if (closing) {
+                            return;
+                        }
+                        if (dirtyVersion == durableVersion) {
+                            wait();
+                        } else {
+                            long remaining = firstDirtyAt + flushIntervalMillis - System.currentTimeMillis();
+                            if (remaining > 0) {
+                                wait(remaining);
+                            }
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    return;
+                }
+                target = dirtyVersion;
+                saving = true;
+                savingVersion = target;
+                flushSequence++;
+            }
+            
+            // 저장은 모니터 밖에서 수행하여 변경 작업을 막지 않음
+            boolean saved = saver.getAsBoolean();
+            
+            synchronized (this) {
+                saving = false;
+                if (saved) {
+                    durableVersion = Math.max(durableVersion, target);
+                    // 저장 중에 들어온 변경은 그 변경이 들어온 시각부터 대기 시간을 계산
+                    firstDirtyAt = dirtyDuringSaveAt;
+                } else {
+                    lastFailedFlush = flushSequence;
+                    // 이 저장이 처리한 요청은 실패로 끝났으므로 거두고, 다음 주기에 다시 시도
+                    if (requestedVersion <= target) {
+                        requestedVersion = 0;
+                    }
+                    firstDirtyAt = System.currentTimeMillis();
+                    if (closing) {
+                        notifyAll();
+                        return;
+                    }
+                }
+                notifyAll();
+            }
+        }
+    }
+    
+    private boolean shouldFlush() {
+        long pending = dirtyVersion - durableVersion;
+        if (pending == 0) {
+            return false;
+        }
+        return requestedVersion > durableVersion
+            || closing
+            || pending >= flushBatchSize
+            || System.currentTimeMillis() - firstDirtyAt >= flushIntervalMillis;
+    }
+}
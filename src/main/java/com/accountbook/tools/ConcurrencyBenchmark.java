@@ -0,0 +1,298 @@
+package com.accountbook.tools;
+
+import com.accountbook.model.LedgerItem;
+import com.accountbook.service.LedgerOptions;
+import com.accountbook.service.LedgerService;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * LedgerService의 동시성 스트레스 테스트 겸 벤치마크입니다.
+ *
+ * 1단계(정합성): 여러 쓰기 스레드가 동시에 항목을 추가/삭제하며 매번 저장한 뒤,
+ * 저장 실패가 없는지와 파일을 다시 불러왔을 때 메모리와 같은 항목이 있는지 확인합니다.
+ * 삭제는 주로 다른 스레드가 방금 추가한 항목을 대상으로 하여, 추가 기록과 삭제 기록의 순서가
+ * 뒤바뀌는 경우(저널 재생 시 삭제한 항목이 되살아남)도 드러나게 합니다.
+ * 2단계(처리량): 쓰기 스레드 하나가 계속 추가/삭제하는 동안 조회 스레드를 1개부터 N개까지 늘려가며
+ * 초당 조회 수와 초당 쓰기 수를 출력합니다.
+ *
+ * 사용법: java com.accountbook.tools.ConcurrencyBenchmark [--journal | --partitioned | --write-behind]
+ *   [--readers N] [--seconds S] [--items N] [--writers N] [--writes-per-thread N]
+ * 데이터는 임시 디렉터리에 만들고 끝나면 삭제합니다. 정합성 검사가 실패하면 종료 코드 1을 반환합니다.
+ */
+public class ConcurrencyBenchmark {
+    
+    private static final LocalDate FIRST_DATE = LocalDate.of(2025, 10, 1);
+    private static final int DAYS = 365;
+    
+    private LedgerOptions options = new LedgerOptions().quietSaves(true);
+    private String mode = "기본";
+    private int maxReaders = Math.max(2, Runtime.getRuntime().availableProcessors());
+    private int seconds = 3;
+    private int items = 20_000;
+    private int writers = 4;
+    private int writesPerThread = 200;
+    
+    public static void main(String[] args) {
+        ConcurrencyBenchmark benchmark = new ConcurrencyBenchmark();
+        try {
+            benchmark.parseArgs(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        }
+        
+        Path directory = null;
+        boolean consistent = false;
+        try {
+            directory = Files.createTempDirectory("ledger-bench");
+            consistent = benchmark.checkConsistency(new File(directory.toFile(), "stress.csv").getPath());
+            benchmark.measureThroughput(new File(directory.toFile(), "bench.csv").getPath());
+        } catch (IOException | InterruptedException e) {
+            System.err.println("벤치마크 실행 오류: " + e.getMessage());
+        } finally {
+            deleteRecursively(directory);
+        }
+        System.exit(consistent ? 0 : 1);
+    }
+    
+    private void parseArgs(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (arg.equals("--journal")) {
+                options.journalMode(true);
+                mode = "저널";
+            } else if (arg.equals("--partitioned")) {
+                options.partitioned(true);
+                mode = "월별 분할";
+            } else if (arg.equals("--write-behind")) {
+                options.writeBehind(true);
+                mode = "write-behind";
+            } else if (arg.equals("--readers")) {
+                maxReaders = positive(args, ++i, arg);
+            } else if (arg.equals("--seconds")) {
+                seconds = positive(args, ++i, arg);
+            } else if (arg.equals("--items")) {
+                items = positive(args, ++i, arg);
+            } else if (arg.equals("--writers")) {
+                writers = positive(args, ++i, arg);
+            } else if (arg.equals("--writes-per-thread")) {
+                writesPerThread = positive(args, ++i, arg);
+            } else {
+                throw new IllegalArgumentException("알 수 없는 옵션입니다: " + arg);
+            }
+        }
+    }
+    
+    private static int positive(String[] args, int index, String option) {
+        try {
+            int value = index < args.length ? Integer.parseInt(args[index]) : 0;
+            if (value > 0) {
+                return value;
+            }
+        } catch (NumberFormatException e) {
+            // 아래에서 같은 메시지로 처리
+        }
+        throw new IllegalArgumentException(option + " 옵션에는 양의 정수가 필요합니다.");
+    }
+    
+    /**
+     * 쓰기 스레드들이 동시에 추가/삭제하고 매번 저장한 뒤, 다시 불러온 파일이 메모리와 같은지 확인합니다.
+     */
+    private boolean checkConsistency(String fileName) throws InterruptedException {
+        System.out.printf("== 정합성 검사 (%s 모드): 쓰기 스레드 %d개 x 추가 %d개 ==%n", mode, writers, writesPerThread);
+        LedgerService ledger = new LedgerService(options.copy().fileName(fileName));
+        AtomicInteger failedSaves = new AtomicInteger();
+        
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < writers; t++) {
+            threads.add(new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                int lastId = 0;
+                for (int i = 0; i < writesPerThread; i++) {
+                    LedgerItem item = ledger.createItem(randomDate(random), 1 + random.nextInt(100_000),
+                        randomCategory(random), "stress " + i);
+                    if (item == null) {
+                        failedSaves.incrementAndGet();
+                        continue;
+                    }
+                    lastId = item.getId();
+                    if (i % 4 == 3) {
+                        removeRecent(ledger, lastId, random);
+                    }
+                }
+            }, "stress-writer-" + t));
+        }
+        long started = System.nanoTime();
+        runAll(threads);
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        
+        Set<Integer> expected = ids(ledger.getAllItems());
+        boolean saved = ledger.saveData() && ledger.close();
+        Set<Integer> reloaded = ids(new LedgerService(options.copy().fileName(fileName)).getAllItems());
+        
+        int expectedCount = writers * (writesPerThread - writesPerThread / 4);
+        boolean consistent = failedSaves.get() == 0 && saved
+            && expected.size() == expectedCount && expected.equals(reloaded);
+        System.out.printf("저장 실패 %d건, 메모리 항목 %d개 (기대 %d개), 다시 불러온 항목 %d개, %dms -> %s%n",
+            failedSaves.get(), expected.size(), expectedCount, reloaded.size(), elapsedMillis,
+            consistent ? "통과" : "실패");
+        System.out.println();
+        return consistent;
+    }
+    
+    /**
+     * 항목 하나를 삭제합니다. 다른 스레드가 지금 추가하고 있을 ID(lastId 바로 다음)를 먼저 시도하고,
+     * 없으면 lastId 이하에서 무작위로 고릅니다. 삭제에 성공할 때까지 반복하므로 삭제 수는 항상 같습니다.
+     */
+    private void removeRecent(LedgerService ledger, int lastId, ThreadLocalRandom random) {
+        for (int attempt = 0; ; attempt++) {
+            int id = attempt < writers * 4
+                ? lastId + 1 + random.nextInt(writers)
+                : 1 + random.nextInt(lastId);
+            if (ledger.removeItem(id)) {
+                return;
+            }
+        }
+    }
+    
+    /**
+     * 쓰기 스레드 하나가 계속 추가/삭제하는 동안 조회 스레드 수를 늘려가며 처리량을 측정합니다.
+     */
+    private void measureThroughput(String fileName) throws InterruptedException {
+        System.out.printf("== 처리량 (%s 모드): 항목 %d개, 단계마다 %d초, 쓰기 스레드 1개 ==%n", mode, items, seconds);
+        LedgerService ledger = new LedgerService(options.copy().fileName(fileName));
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        ledger.setDeferredPersistence(true);
+        for (int i = 0; i < items; i++) {
+            ledger.createItem(randomDate(random), 1 + random.nextInt(100_000), randomCategory(random), "bench " + i);
+        }
+        ledger.commitDeferred();
+        ledger.setDeferredPersistence(false);
+        
+        // JIT 컴파일이 끝나도록 조회를 먼저 실행해 첫 단계의 측정값이 낮게 나오지 않게 함
+        for (long end = System.nanoTime() + 1_000_000_000L; System.nanoTime() < end; ) {
+            runQuery(ledger, random);
+        }
+        
+        System.out.printf("%8s | %14s | %12s | %10s%n", "조회 스레드", "초당 조회", "스레드당", "초당 쓰기");
+        double baseline = 0;
+        for (int readers = 1; readers <= maxReaders; readers++) {
+            AtomicBoolean stop = new AtomicBoolean();
+            LongAdder reads = new LongAdder();
+            LongAdder writes = new LongAdder();
+            
+            List<Thread> threads = new ArrayList<>();
+            threads.add(new Thread(() -> {
+                ThreadLocalRandom r = ThreadLocalRandom.current();
+                while (!stop.get()) {
+                    LedgerItem item = ledger.createItem(randomDate(r), 1 + r.nextInt(100_000),
+                        randomCategory(r), "write");
+                    if (item != null) {
+                        ledger.removeItem(item.getId());
+                    }
+                    writes.add(2);
+                }
+            }, "bench-writer"));
+            for (int t = 0; t < readers; t++) {
+                threads.add(new Thread(() -> {
+                    ThreadLocalRandom r = ThreadLocalRandom.current();
+                    while (!stop.get()) {
+                        runQuery(ledger, r);
+                        reads.increment();
+                    }
+                }, "bench-reader-" + t));
+            }
+            
+            long started = System.nanoTime();
+            for (Thread thread : threads) {
+                thread.start();
+            }
+            Thread.sleep(seconds * 1000L);
+            stop.set(true);
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            double elapsed = (System.nanoTime() - started) / 1e9;
+            
+            double readRate = reads.sum() / elapsed;
+            if (readers == 1) {
+                baseline = readRate;
+            }
+            System.out.printf("%8d | %14.0f | %12.0f | %10.0f  (x%.2f)%n", readers, readRate, readRate / readers,
+                writes.sum() / elapsed, baseline > 0 ? readRate / baseline : 0);
+        }
+        ledger.close();
+    }
+    
+    /**
+     * 읽기 잠금을 쓰는 대표적인 조회를 무작위로 하나 실행합니다.
+     */
+    private static void runQuery(LedgerService ledger, ThreadLocalRandom random) {
+        LocalDate date = randomDate(random);
+        switch (random.nextInt(4)) {
+            case 0:
+                ledger.getTotalAmount(date, date.plusDays(30), null);
+                break;
+            case 1:
+                ledger.getMonthSummary(YearMonth.from(date));
+                break;
+            case 2:
+                ledger.getItemsByDateRange(date, date);
+                break;
+            default:
+                ledger.getItem(1 + random.nextInt(Math.max(1, ledger.getItemCount())));
+                break;
+        }
+    }
+    
+    private static void runAll(List<Thread> threads) throws InterruptedException {
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+    
+    private static LocalDate randomDate(ThreadLocalRandom random) {
+        return FIRST_DATE.plusDays(random.nextInt(DAYS));
+    }
+    
+    private static String randomCategory(ThreadLocalRandom random) {
+        return LedgerItem.VALID_CATEGORIES.get(random.nextInt(LedgerItem.VALID_CATEGORIES.size()));
+    }
+    
+    private static Set<Integer> ids(List<LedgerItem> items) {
+        Set<Integer> ids = new HashSet<>();
+        for (LedgerItem item : items) {
+            ids.add(item.getId());
+        }
+        return ids;
+    }
+    
+    private static void deleteRecursively(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        } catch (IOException e) {
+            System.err.println("임시 디렉터리 삭제 오류: " + e.getMessage());
+        }
+    }
+}
\ No newline at end of file
@@ -1,9 +1,15 @@
 package com.accountbook.ui;
 
+import com.accountbook.model.Category;
 import com.accountbook.model.LedgerItem;
+import com.accountbook.service.ExportResult;
+import com.accountbook.service.ItemCursor;
+import com.accountbook.service.LedgerExporter;
+import com.accountbook.service.LedgerQuery;
 import com.accountbook.service.LedgerService;
 import com.accountbook.util.ValidationUtil;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Scanner;
 
@@ -12,10 +18,22 @@ import java.util.Scanner;
  */
 public class CliInterface {
     
+    // 조회 화면에서 한 번에 보여줄 항목 수
+    private static final int PAGE_SIZE = 20;
+    
+    // 고급 검색에서 지정할 수 있는 최대 결과 수
+    private static final int MAX_RESULT_LIMIT = 100_000;
+    
+    // 상위 지출 화면에서 조회할 수 있는 최대 개수
+    private static final int MAX_TOP_EXPENSES = 100;
+    
     private final Scanner scanner;
     private final LedgerService ledgerService;
     private boolean running;
     
+    // 조회 결과를 외부 페이저로 보여줄지 여부
+    private boolean pagerEnabled;
+    
     public CliInterface() {
         this.scanner = new Scanner(System.in);
         this.ledgerService = new LedgerService();
@@ -28,19 +46,42 @@ public class CliInterface {
         this.running = true;
     }
     
+    public CliInterface(LedgerService ledgerService) {
+        this.scanner = new Scanner(System.in);
+        this.ledgerService = ledgerService;
+        this.running = true;
+    }
+    
+    /**
+     * 조회 결과를 n/p 페이지 이동 대신 외부 페이저(PAGER, 기본값 less)로 보여줄지 설정합니다.
+     */
+    public void setPagerEnabled(boolean pagerEnabled) {
+        this.pagerEnabled = pagerEnabled;
+    }
+    
     /**
      * CLI 애플리케이션을 시작합니다.
      */
     public void start() {
         System.out.println("개인 가계부에 오신 것을 환영합니다!");
         System.out.printf("데이터 파일: %s%n", ledgerService.getFileName());
-        System.out.printf("기존 항목 %d개를 불러왔습니다.%n%n", ledgerService.getItemCount());
+        System.out.printf("기존 항목 %d개를 불러왔습니다.%n", ledgerService.getItemCount());
+        if (ledgerService.isJournalMode()) {
+            System.out.printf("저널 모드: 병합 대기 중인 레코드 %d개 (파일에 저장 시 병합)%n",
+                ledgerService.getPendingJournalRecords());
+        }
+        System.out.println();
         
         while (running) {
             showMainMenu();
             handleMainMenuChoice();
         }
         
+        // write-behind 모드에서 남은 변경 사항 저장
+        if (!ledgerService.close()) {
+            System.out.println("일부 변경 사항을 파일에 저장하지 못했습니다.");
+        }
+        
         System.out.println("개인 가계부를 이용해 주셔서 감사합니다!");
         scanner.close();
     }
@@ -57,6 +98,11 @@ public class CliInterface {
         System.out.println("   2.1 전체 보기");
         System.out.println("   2.2 날짜 범위별 보기");
         System.out.println("   2.3 카테고리별 보기");
+        System.out.println("   2.4 월별 요약");
+        System.out.println("   2.5 기간 합계");
+        System.out.println("   2.6 메모 검색");
+        System.out.println("   2.7 고급 검색");
+        System.out.println("   2.8 상위 지출");
         System.out.println("3. 파일에 저장");
         System.out.println("4. 파일 불러오기");
         System.out.println("5. 프로그램 종료");
@@ -138,10 +184,15 @@ public class CliInterface {
         System.out.println("1. 전체 보기");
         System.out.println("2. 날짜 범위별 보기");
         System.out.println("3. 카테고리별 보기");
+        System.out.println("4. 월별 요약");
+        System.out.println("5. 기간 합계");
+        System.out.println("6. 메모 검색");
+        System.out.println("7. 고급 검색");
+        System.out.println("8. 상위 지출");
         System.out.print("옵션 선택: ");
         
         String input = scanner.nextLine();
-        ValidationUtil.ValidationResult result = ValidationUtil.validateMenuOption(input, 1, 3);
+        ValidationUtil.ValidationResult result = ValidationUtil.validateMenuOption(input, 1, 8);
         
         if (!result.isValid()) {
             System.out.println("오류: " + result.getErrorMessage());
@@ -162,6 +213,21 @@ public class CliInterface {
             case 3:
                 viewItemsByCategory();
                 break;
+            case 4:
+                viewSummary();
+                break;
+            case 5:
+                viewRangeTotal();
+                break;
+            case 6:
+                searchNotes();
+                break;
+            case 7:
+                advancedSearch();
+                break;
+            case 8:
+                viewTopExpenses();
+                break;
         }
     }
     
@@ -210,7 +276,7 @@ public class CliInterface {
         
         // 현재 항목 표시
         System.out.println("현재 항목:");
-        ledgerService.displayItems(ledgerService.getAllItems());
+        browse(ledgerService.openCursor(PAGE_SIZE));
         System.out.println();
         
         System.out.print("삭제할 항목의 ID 입력: ");
@@ -231,8 +297,7 @@ public class CliInterface {
      */
     private void viewAllItems() {
         System.out.println("=== 전체 내역 ===");
-        List<LedgerItem> items = ledgerService.getAllItems();
-        ledgerService.displayItems(items);
+        browse(ledgerService.openCursor(PAGE_SIZE));
         System.out.println();
     }
     
@@ -254,9 +319,8 @@ public class CliInterface {
             return;
         }
         
-        List<LedgerItem> items = ledgerService.getItemsByDateRange(startDate, endDate);
         System.out.printf("%s부터 %s까지의 항목:%n", startDate, endDate);
-        ledgerService.displayItems(items);
+        browse(ledgerService.openCursorByDateRange(startDate, endDate, PAGE_SIZE));
         System.out.println();
     }
     
@@ -269,18 +333,240 @@ public class CliInterface {
         String category = getValidCategory("카테고리 입력 (" + String.join(", ", LedgerItem.VALID_CATEGORIES) + "): ");
         if (category == null) return;
         
-        List<LedgerItem> items = ledgerService.getItemsByCategory(category);
         System.out.printf("'%s' 카테고리의 항목:%n", category);
-        ledgerService.displayItems(items);
+        browse(ledgerService.openCursorByCategory(category, PAGE_SIZE));
+        System.out.println();
+    }
+    
+    /**
+     * 월별, 카테고리별 합계를 조회합니다.
+     */
+    private void viewSummary() {
+        System.out.println("=== 월별 요약 ===");
+        ledgerService.displaySummary();
+        System.out.println();
+    }
+    
+    /**
+     * 날짜 범위(와 선택한 카테고리)의 금액 합계를 조회합니다.
+     */
+    private void viewRangeTotal() {
+        System.out.println("=== 기간 합계 ===");
+        
+        LocalDate startDate = getValidDate("시작 날짜 입력 (YYYY-MM-DD): ");
+        if (startDate == null) return;
+        
+        LocalDate endDate = getValidDate("종료 날짜 입력 (YYYY-MM-DD): ");
+        if (endDate == null) return;
+        
+        if (startDate.isAfter(endDate)) {
+            System.out.println("오류: 시작 날짜가 종료 날짜보다 뒤일 수 없습니다.");
+            System.out.println();
+            return;
+        }
+        
+        Category category = getOptionalCategory(
+            "카테고리 입력 (" + String.join(", ", LedgerItem.VALID_CATEGORIES) + ", 전체는 빈 입력): ");
+        
+        long total = ledgerService.getTotalAmount(startDate, endDate, category);
+        System.out.printf("%s부터 %s까지 %s 합계: %d%n", startDate, endDate,
+            category != null ? "'" + category.getName() + "' 카테고리" : "전체", total);
+        System.out.println();
+    }
+    
+    /**
+     * 메모 내용으로 항목을 검색합니다. 날짜 범위와 카테고리로 결과를 좁힐 수 있습니다.
+     */
+    private void searchNotes() {
+        System.out.println("=== 메모 검색 ===");
+        
+        System.out.print("검색어 입력 (여러 단어는 공백으로 구분): ");
+        String query = scanner.nextLine().trim();
+        if (query.isEmpty()) {
+            System.out.println("오류: 검색어는 비워둘 수 없습니다.");
+            System.out.println();
+            return;
+        }
+        
+        LocalDate startDate = getOptionalDate("시작 날짜 입력 (YYYY-MM-DD, 제한 없음은 빈 입력): ");
+        LocalDate endDate = startDate != null ? getValidDate("종료 날짜 입력 (YYYY-MM-DD): ") : null;
+        if (startDate != null && startDate.isAfter(endDate)) {
+            System.out.println("오류: 시작 날짜가 종료 날짜보다 뒤일 수 없습니다.");
+            System.out.println();
+            return;
+        }
+        
+        Category category = getOptionalCategory(
+            "카테고리 입력 (" + String.join(", ", LedgerItem.VALID_CATEGORIES) + ", 전체는 빈 입력): ");
+        
+        System.out.printf("'%s' 검색 결과:%n", query);
+        browse(ledgerService.openCursorByNote(query, startDate, endDate, category, PAGE_SIZE));
+        System.out.println();
+    }
+    
+    /**
+     * 날짜, 카테고리, 금액, 메모 조건을 함께 지정하여 항목을 검색합니다.
+     * 비워 둔 조건은 적용하지 않습니다.
+     */
+    private void advancedSearch() {
+        System.out.println("=== 고급 검색 ===");
+        System.out.println("(조건을 적용하지 않으려면 빈 입력)");
+        
+        LedgerQuery query = new LedgerQuery();
+        
+        LocalDate startDate = getOptionalDate("시작 날짜 (YYYY-MM-DD): ");
+        LocalDate endDate = getOptionalDate("종료 날짜 (YYYY-MM-DD): ");
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            System.out.println("오류: 시작 날짜가 종료 날짜보다 뒤일 수 없습니다.");
+            System.out.println();
+            return;
+        }
+        query.dateRange(startDate, endDate);
+        
+        query.categories(getOptionalCategories(
+            "카테고리 (" + String.join(", ", LedgerItem.VALID_CATEGORIES) + ", 여러 개는 쉼표로 구분): "));
+        
+        Integer minAmount = getOptionalAmount("최소 금액: ");
+        Integer maxAmount = getOptionalAmount("최대 금액: ");
+        if (minAmount != null && maxAmount != null && minAmount > maxAmount) {
+            System.out.println("오류: 최소 금액이 최대 금액보다 클 수 없습니다.");
+            System.out.println();
+            return;
+        }
+        if (minAmount != null || maxAmount != null) {
+            query.amountRange(minAmount != null ? minAmount : Integer.MIN_VALUE,
+                maxAmount != null ? maxAmount : Integer.MAX_VALUE);
+        }
+        
+        System.out.print("메모 검색어: ");
+        query.noteText(scanner.nextLine());
+        
+        Integer limit = getOptionalNumber("최대 결과 수: ", 1, MAX_RESULT_LIMIT);
+        if (limit != null) {
+            query.limit(limit);
+        }
+        
+        System.out.println("실행 계획: " + ledgerService.explain(query));
+        browse(ledgerService.openCursor(query, PAGE_SIZE));
+        
+        System.out.print("결과를 내보낼 파일명 (.json은 JSON, .gz로 끝나면 압축, 건너뛰려면 빈 입력): ");
+        String exportFile = scanner.nextLine().trim();
+        if (!exportFile.isEmpty()) {
+            exportResults(query, exportFile);
+        }
         System.out.println();
     }
     
+    /**
+     * 조회 결과를 파일 확장자에 맞는 형식으로 내보냅니다.
+     */
+    private void exportResults(LedgerQuery query, String fileName) {
+        String lower = fileName.toLowerCase();
+        boolean gzip = lower.endsWith(".gz");
+        String baseName = gzip ? lower.substring(0, lower.length() - 3) : lower;
+        LedgerExporter.Format format = baseName.endsWith(".json")
+            ? LedgerExporter.Format.JSON
+            : LedgerExporter.Format.CSV;
+        
+        ExportResult result = ledgerService.exportItems(query, fileName, format, gzip);
+        if (result == null) {
+            System.out.println("결과를 내보내지 못했습니다.");
+            return;
+        }
+        System.out.printf("%s에 %d개의 항목을 내보냈습니다 (%dms, 초당 %d행).%n",
+            fileName, result.getRowCount(), result.getElapsedMillis(), result.getRowsPerSecond());
+    }
+    
+    /**
+     * 기간과 카테고리 안에서 금액이 가장 큰 항목을 조회합니다.
+     */
+    private void viewTopExpenses() {
+        System.out.println("=== 상위 지출 ===");
+        
+        Integer count = getOptionalNumber("조회할 개수 (1-" + MAX_TOP_EXPENSES + ", 기본 10): ", 1, MAX_TOP_EXPENSES);
+        int k = count != null ? count : 10;
+        
+        LocalDate startDate = getOptionalDate("시작 날짜 입력 (YYYY-MM-DD, 전체 기간은 빈 입력): ");
+        LocalDate endDate = startDate != null ? getValidDate("종료 날짜 입력 (YYYY-MM-DD): ") : null;
+        if (startDate != null && startDate.isAfter(endDate)) {
+            System.out.println("오류: 시작 날짜가 종료 날짜보다 뒤일 수 없습니다.");
+            System.out.println();
+            return;
+        }
+        
+        Category category = getOptionalCategory(
+            "카테고리 입력 (" + String.join(", ", LedgerItem.VALID_CATEGORIES) + ", 전체는 빈 입력): ");
+        
+        System.out.printf("금액 상위 %d개 항목:%n", k);
+        ledgerService.displayItems(ledgerService.getTopExpenses(k, startDate, endDate, category));
+        System.out.println();
+    }
+    
+    /**
+     * 커서의 결과를 한 페이지씩 보여주고 다음/이전 페이지 이동을 처리합니다.
+     */
+    private void browse(ItemCursor cursor) {
+        if (pagerEnabled && cursor.getTotalCount() > 0 && showInPager(cursor)) {
+            return;
+        }
+        
+        List<LedgerItem> page = cursor.nextPage();
+        ledgerService.displayPage(cursor, page);
+        
+        while (cursor.hasNextPage() || cursor.hasPreviousPage()) {
+            System.out.print("n: 다음 페이지, p: 이전 페이지, q: 그만 보기 > ");
+            String command = scanner.nextLine().trim().toLowerCase();
+            
+            if (command.equals("n")) {
+                if (!cursor.hasNextPage()) {
+                    System.out.println("마지막 페이지입니다.");
+                    continue;
+                }
+                page = cursor.nextPage();
+            } else if (command.equals("p")) {
+                if (!cursor.hasPreviousPage()) {
+                    System.out.println("첫 페이지입니다.");
+                    continue;
+                }
+                page = cursor.previousPage();
+            } else if (command.isEmpty() || command.equals("q")) {
+                return;
+            } else {
+                System.out.println("오류: n, p, q 중 하나를 입력해주세요.");
+                continue;
+            }
+            ledgerService.displayPage(cursor, page);
+        }
+    }
+    
+    /**
+     * 커서의 결과 전체를 하나의 표로 페이저에 보냅니다. 페이저를 실행할 수 없으면
+     * 페이저 사용을 끄고 false를 반환하여 페이지 단위 보기로 돌아갑니다.
+     */
+    private boolean showInPager(ItemCursor cursor) {
+        Pager pager = Pager.open();
+        if (pager == null) {
+            System.out.println("페이저를 실행할 수 없어 페이지 단위 보기로 전환합니다.");
+            pagerEnabled = false;
+            return false;
+        }
+        
+        try {
+            ledgerService.writeTable(cursor, pager.getStream());
+        } finally {
+            pager.close();
+        }
+        return true;
+    }
+    
     /**
      * 데이터를 파일에 저장합니다.
      */
     private void saveToFile() {
         System.out.println("=== 파일에 저장 ===");
-        boolean success = ledgerService.saveData();
+        boolean success = ledgerService.isJournalMode()
+            ? ledgerService.compactJournal()
+            : ledgerService.saveData();
         if (!success) {
             System.out.println("파일에 데이터를 저장하지 못했습니다.");
         }
@@ -322,6 +608,57 @@ public class CliInterface {
         }
     }
     
+    private LocalDate getOptionalDate(String prompt) {
+        while (true) {
+            System.out.print(prompt);
+            String input = scanner.nextLine();
+            if (input.trim().isEmpty()) {
+                return null;
+            }
+            
+            ValidationUtil.ValidationResult result = ValidationUtil.validateDate(input);
+            if (result.isValid()) {
+                return result.getValue(LocalDate.class);
+            } else {
+                System.out.println("오류: " + result.getErrorMessage());
+            }
+        }
+    }
+    
+    private Integer getOptionalAmount(String prompt) {
+        while (true) {
+            System.out.print(prompt);
+            String input = scanner.nextLine();
+            if (input.trim().isEmpty()) {
+                return null;
+            }
+            
+            ValidationUtil.ValidationResult result = ValidationUtil.validateAmount(input);
+            if (result.isValid()) {
+                return result.getValue(Integer.class);
+            } else {
+                System.out.println("오류: " + result.getErrorMessage());
+            }
+        }
+    }
+    
+    private Integer getOptionalNumber(String prompt, int min, int max) {
+        while (true) {
+            System.out.print(prompt);
+            String input = scanner.nextLine();
+            if (input.trim().isEmpty()) {
+                return null;
+            }
+            
+            ValidationUtil.ValidationResult result = ValidationUtil.validateMenuOption(input, min, max);
+            if (result.isValid()) {
+                return result.getValue(Integer.class);
+            } else {
+                System.out.println("오류: " + result.getErrorMessage());
+            }
+        }
+    }
+    
     private Integer getValidAmount(String prompt) {
         while (true) {
             System.out.print(prompt);
@@ -350,6 +687,49 @@ public class CliInterface {
         }
     }
     
+    private Category getOptionalCategory(String prompt) {
+        while (true) {
+            System.out.print(prompt);
+            String input = scanner.nextLine();
+            if (input.trim().isEmpty()) {
+                return null;
+            }
+            
+            ValidationUtil.ValidationResult result = ValidationUtil.validateCategory(input);
+            if (result.isValid()) {
+                return Category.fromName(result.getValue(String.class));
+            } else {
+                System.out.println("오류: " + result.getErrorMessage());
+            }
+        }
+    }
+    
+    private List<Category> getOptionalCategories(String prompt) {
+        while (true) {
+            System.out.print(prompt);
+            String input = scanner.nextLine();
+            List<Category> categories = new ArrayList<>();
+            if (input.trim().isEmpty()) {
+                return categories;
+            }
+            
+            String error = null;
+            for (String name : input.split(",")) {
+                ValidationUtil.ValidationResult result = ValidationUtil.validateCategory(name);
+                if (!result.isValid()) {
+                    error = result.getErrorMessage();
+                    break;
+                }
+                categories.add(Category.fromName(result.getValue(String.class)));
+            }
+            
+            if (error == null) {
+                return categories;
+            }
+            System.out.println("오류: " + error);
+        }
+    }
+    
     private String getValidNote(String prompt) {
         while (true) {
             System.out.print(prompt);
@@ -0,0 +1,256 @@
+package com.accountbook.ui;
+
+import com.accountbook.model.Category;
+import com.accountbook.model.LedgerItem;
+import com.accountbook.service.FederatedItem;
+import com.accountbook.service.LedgerFederation;
+import com.accountbook.service.RollupEngine;
+import com.accountbook.util.TableRenderer;
+import com.accountbook.util.ValidationUtil;
+import java.io.PrintStream;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Scanner;
+
+/**
+ * 여러 가계부를 한꺼번에 조회하는 조회 전용 명령줄 인터페이스입니다.
+ * 모든 결과는 날짜 순으로 병합되며 각 행에 어느 가계부의 항목인지 표시합니다.
+ */
+public class FederatedCli {
+    
+    private final Scanner scanner;
+    private final LedgerFederation federation;
+    private boolean running;
+    
+    // 조회 결과를 외부 페이저로 보여줄지 여부
+    private boolean pagerEnabled;
+    
+    public FederatedCli(LedgerFederation federation) {
+        this.scanner = new Scanner(System.in);
+        this.federation = federation;
+        this.running = true;
+    }
+    
+    /**
+     * 조회 결과를 외부 페이저(PAGER, 기본값 less)로 보여줄지 설정합니다.
+     */
+    public void setPagerEnabled(boolean pagerEnabled) {
+        this.pagerEnabled = pagerEnabled;
+    }
+    
+    /**
+     * 통합 조회를 시작합니다.
+     */
+    public void start() {
+        System.out.printf("가계부 %d개를 함께 조회합니다 (조회 전용).%n", federation.getLedgerCount());
+        List<String> names = federation.getSourceNames();
+        List<Integer> counts = federation.getItemCounts();
+        for (int i = 0; i < names.size(); i++) {
+            System.out.printf("  %s: 항목 %d개%n", names.get(i), counts.get(i));
+        }
+        System.out.println();
+        
+        while (running) {
+            showMenu();
+            handleMenuChoice();
+        }
+        
+        federation.close();
+        System.out.println("개인 가계부를 이용해 주셔서 감사합니다!");
+        scanner.close();
+    }
+    
+    private void showMenu() {
+        System.out.println("==== 통합 조회 ====");
+        System.out.println("1. 전체 보기");
+        System.out.println("2. 날짜 범위별 보기");
+        System.out.println("3. 카테고리별 보기");
+        System.out.println("4. 월별 요약");
+        System.out.println("5. 프로그램 종료");
+        System.out.println();
+        System.out.print("옵션 선택: ");
+    }
+    
+    private void handleMenuChoice() {
+        String input = scanner.nextLine();
+        ValidationUtil.ValidationResult result = ValidationUtil.validateMenuOption(input, 1, 5);
+        
+        if (!result.isValid()) {
+            System.out.println("오류: " + result.getErrorMessage());
+            System.out.println();
+            return;
+        }
+        
+        int choice = result.getValue(Integer.class);
+        System.out.println();
+        
+        switch (choice) {
+            case 1:
+                System.out.println("=== 전체 내역 ===");
+                showItems(federation.getAllItems());
+                break;
+            case 2:
+                viewItemsByDateRange();
+                break;
+            case 3:
+                viewItemsByCategory();
+                break;
+            case 4:
+                System.out.println("=== 월별 요약 ===");
+                showSummary();
+                break;
+            case 5:
+                running = false;
+                break;
+        }
+        System.out.println();
+    }
+    
+    private void viewItemsByDateRange() {
+        System.out.println("=== 날짜 범위별 보기 ===");
+        LocalDate startDate = getValidDate("시작 날짜 입력 (YYYY-MM-DD): ");
+        LocalDate endDate = getValidDate("종료 날짜 입력 (YYYY-MM-DD): ");
+        if (startDate.isAfter(endDate)) {
+            System.out.println("오류: 시작 날짜가 종료 날짜보다 뒤일 수 없습니다.");
+            return;
+        }
+        showItems(federation.getItemsByDateRange(startDate, endDate));
+        System.out.printf("기간 합계: %d%n", federation.getTotalAmount(startDate, endDate, null));
+    }
+    
+    private void viewItemsByCategory() {
+        System.out.println("=== 카테고리별 보기 ===");
+        Category category = getValidCategory(
+            "카테고리 입력 (" + String.join(", ", LedgerItem.VALID_CATEGORIES) + "): ");
+        showItems(federation.getItemsByCategory(category));
+    }
+    
+    /**
+     * 병합된 항목을 가계부 열이 있는 표로 출력합니다. 페이저를 쓸 수 있으면 페이저로 보냅니다.
+     */
+    private void showItems(List<FederatedItem> rows) {
+        if (rows.isEmpty()) {
+            System.out.println("표시할 항목이 없습니다.");
+            return;
+        }
+        
+        Pager pager = pagerEnabled ? Pager.open() : null;
+        if (pagerEnabled && pager == null) {
+            System.out.println("페이저를 실행할 수 없어 화면에 바로 출력합니다.");
+            pagerEnabled = false;
+        }
+        
+        try {
+            TableRenderer table = openItemTable(pager != null ? pager.getStream() : System.out, rows);
+            for (FederatedItem row : rows) {
+                LedgerItem item = row.getItem();
+                boolean open = table.cell(row.getSource())
+                    .cell(item.getId())
+                    .cell(item.getDate())
+                    .cell(item.getCategory())
+                    .cell(item.getAmount())
+                    .cell(item.getNote())
+                    .endRow();
+                if (!open) {
+                    return;
+                }
+            }
+            table.rule('=').line("총 항목 수: " + rows.size()).flush();
+        } finally {
+            if (pager != null) {
+                pager.close();
+            }
+        }
+    }
+    
+    /**
+     * 가계부 이름과 ID 열 너비를 결과에 맞춰 정한 표를 만듭니다.
+     */
+    private TableRenderer openItemTable(PrintStream out, List<FederatedItem> rows) {
+        int sourceWidth = 6;
+        for (String name : federation.getSourceNames()) {
+            sourceWidth = Math.max(sourceWidth, TableRenderer.displayWidth(name));
+        }
+        int maxId = 0;
+        for (FederatedItem row : rows) {
+            maxId = Math.max(maxId, row.getItem().getId());
+        }
+        
+        TableRenderer table = new TableRenderer(out, sourceWidth,
+            Math.max(3, Integer.toString(maxId).length()), 12, 10, 11, 20);
+        table.rule('=');
+        table.cell("가계부").cell("ID").cell("날짜").cell("카테고리").cell("금액").cell("메모").endRow();
+        table.rule('-');
+        return table;
+    }
+    
+    /**
+     * 월마다 가계부별 집계와 전체 합계를 출력합니다.
+     */
+    private void showSummary() {
+        List<YearMonth> months = federation.getSummaryMonths();
+        if (months.isEmpty()) {
+            System.out.println("표시할 항목이 없습니다.");
+            return;
+        }
+        
+        List<String> names = federation.getSourceNames();
+        int sourceWidth = 6;
+        for (String name : names) {
+            sourceWidth = Math.max(sourceWidth, TableRenderer.displayWidth(name));
+        }
+        
+        TableRenderer table = new TableRenderer(System.out, 7, sourceWidth, 5, 15, 11, 11);
+        table.rule('=');
+        table.cell("연월").cell("가계부").cell("건수").cell("합계").cell("최소").cell("최대").endRow();
+        table.rule('-');
+        
+        for (YearMonth month : months) {
+            String label = month.toString();
+            List<RollupEngine.Summary> summaries = federation.getMonthSummaries(month);
+            for (int i = 0; i < summaries.size(); i++) {
+                if (summaries.get(i).getCount() > 0) {
+                    renderSummaryRow(table, label, names.get(i), summaries.get(i));
+                }
+            }
+            renderSummaryRow(table, label, "(합계)", federation.getMonthSummary(month));
+            table.rule('-');
+        }
+        table.flush();
+    }
+    
+    private static void renderSummaryRow(TableRenderer table, String month, String label,
+            RollupEngine.Summary summary) {
+        table.cell(month).cell(label).cell(summary.getCount()).cell(summary.getSum())
+            .cell(summary.getMin()).cell(summary.getMax()).endRow();
+    }
+    
+    private LocalDate getValidDate(String prompt) {
+        while (true) {
+            System.out.print(prompt);
+            String input = scanner.nextLine();
+            
+            ValidationUtil.ValidationResult result = ValidationUtil.validateDate(input);
+            if (result.isValid()) {
+                return result.getValue(LocalDate.class);
+            } else {
+                System.out.println("오류: " + result.getErrorMessage());
+            }
+        }
+    }
+    
+    private Category getValidCategory(String prompt) {
+        while (true) {
+            System.out.print(prompt);
+            String input = scanner.nextLine();
+            
+            ValidationUtil.ValidationResult result = ValidationUtil.validateCategory(input);
+            if (result.isValid()) {
+                return Category.fromName(result.getValue(String.class));
+            } else {
+                System.out.println("오류: " + result.getErrorMessage());
+            }
+        }
+    }
+}
\ No newline at end of file
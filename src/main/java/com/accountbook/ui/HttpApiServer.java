@@ -0,0 +1,523 @@
+package com.accountbook.ui;
+
+import com.accountbook.model.Category;
+import com.accountbook.model.LedgerItem;
+import com.accountbook.service.ItemCursor;
+import com.accountbook.service.LedgerQuery;
+import com.accountbook.service.LedgerService;
+import com.accountbook.service.RollupEngine;
+import com.accountbook.util.CsvChannelWriter;
+import com.accountbook.util.ValidationUtil;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LedgerService 앞에 두는 HTTP/JSON API 서버입니다 (JDK 내장 com.sun.net.httpserver 사용).
+ *
+ * 엔드포인트:
+ * - GET    /items                       전체 항목 (start, end, category 쿼리로 조건 지정)
+ * - GET    /items/{id}                  항목 하나
+ * - POST   /items                       항목 추가 (JSON 본문: date, amount, category, note)
+ * - DELETE /items/{id}                  항목 삭제
+ * - GET    /summary                     월별, 카테고리별 집계 (month=YYYY-MM로 한 달만 조회)
+ *
+ * 요청마다 가상 스레드 하나를 사용하고(Java 21 이상), 그보다 낮은 버전에서는 캐시 스레드 풀을 사용합니다.
+ * 목록 응답은 커서로 한 페이지씩 읽어 청크 전송으로 바로 내보내므로 결과 전체를 메모리에 올리지 않으며,
+ * 페이지 사이에는 잠금을 놓아 추가/삭제가 오래 기다리지 않습니다.
+ * 추가/삭제는 서비스의 영속성 설정을 따르므로 write-behind 모드에서 실행하면 저장이 모아서 처리됩니다.
+ */
+public class HttpApiServer {
+    
+    private static final int PAGE_SIZE = 1024;
+    private static final int BACKLOG = 4096;
+    private static final int MAX_BODY_BYTES = 64 * 1024;
+    
+    // 응답 작성 버퍼 크기 (스트림 채널이 한 번에 옮기는 크기와 같음)
+    private static final int RESPONSE_BUFFER_SIZE = 8 * 1024;
+    
+    private final LedgerService ledgerService;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final boolean virtualThreads;
+    
+    public HttpApiServer(LedgerService ledgerService, InetSocketAddress address) throws IOException {
+        this.ledgerService = ledgerService;
+        this.server = HttpServer.create(address, BACKLOG);
+        
+        ExecutorService virtual = newVirtualThreadExecutor();
+        this.virtualThreads = virtual != null;
+        this.executor = virtual != null ? virtual : Executors.newCachedThreadPool();
+        
+        server.setExecutor(executor);
+        server.createContext("/items", this::handleItems);
+        server.createContext("/summary", this::handleSummary);
+    }
+    
+    /**
+     * 가상 스레드 실행기를 리플렉션으로 만듭니다. 지원하지 않는 JDK이면 null을 반환합니다.
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+    
+    /**
+     * 서버를 시작합니다.
+     */
+    public void start() {
+        server.start();
+    }
+    
+    /**
+     * 진행 중인 요청이 끝나기를 최대 delaySeconds초 기다린 뒤 서버를 중지합니다.
+     */
+    public void stop(int delaySeconds) {
+        server.stop(delaySeconds);
+        executor.shutdown();
+        try {
+            executor.awaitTermination(delaySeconds, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * 실제로 바인딩된 주소를 가져옵니다 (포트 0으로 시작한 경우 확인용).
+     */
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+    
+    /**
+     * 요청을 가상 스레드에서 처리하는지 확인합니다.
+     */
+    public boolean isUsingVirtualThreads() {
+        return virtualThreads;
+    }
+    
+    // ---- /items ----
+    
+    private void handleItems(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            String method = exchange.getRequestMethod();
+            String idPart;
+            if (path.equals("/items") || path.equals("/items/")) {
+                idPart = "";
+            } else if (path.startsWith("/items/")) {
+                idPart = path.substring("/items/".length());
+            } else {
+                sendError(exchange, 404, "존재하지 않는 경로입니다: " + path);
+                return;
+            }
+            
+            if (idPart.isEmpty()) {
+                if (method.equals("GET")) {
+                    listItems(exchange);
+                } else if (method.equals("POST")) {
+                    addItem(exchange);
+                } else {
+                    sendError(exchange, 405, "지원하지 않는 메서드입니다: " + method);
+                }
+                return;
+            }
+            
+            int id = ValidationUtil.parseDigits(idPart, 0, idPart.length());
+            if (id <= 0) {
+                sendError(exchange, 404, "유효하지 않은 ID입니다: " + idPart);
+            } else if (method.equals("GET")) {
+                getItem(exchange, id);
+            } else if (method.equals("DELETE")) {
+                deleteItem(exchange, id);
+            } else {
+                sendError(exchange, 405, "지원하지 않는 메서드입니다: " + method);
+            }
+        } catch (IllegalArgumentException e) {
+            sendError(exchange, 400, e.getMessage());
+        } finally {
+            exchange.close();
+        }
+    }
+    
+    /**
+     * 조건에 맞는 항목을 ID 순으로 JSON 배열로 스트리밍합니다.
+     */
+    private void listItems(HttpExchange exchange) throws IOException {
+        Map<String, String> params = parseQuery(exchange.getRequestURI().getRawQuery());
+        LedgerQuery query = new LedgerQuery();
+        
+        String start = params.get("start");
+        String end = params.get("end");
+        if (start != null || end != null) {
+            if (start == null || end == null) {
+                throw new IllegalArgumentException("start와 end를 함께 지정해야 합니다.");
+            }
+            query.dateRange(parseDate(start), parseDate(end));
+        }
+        
+        String categoryName = params.get("category");
+        if (categoryName != null) {
+            int ordinal = ValidationUtil.parseCategory(categoryName, 0, categoryName.length());
+            if (ordinal < 0) {
+                throw new IllegalArgumentException(ValidationUtil.categoryErrorMessage(ordinal));
+            }
+            query.category(Category.fromOrdinal(ordinal));
+        }
+        
+        ItemCursor cursor = ledgerService.openCursor(query, PAGE_SIZE);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(200, 0);
+        
+        try (CsvChannelWriter writer = openWriter(exchange)) {
+            writer.writeByte('[');
+            boolean first = true;
+            for (List<LedgerItem> page = cursor.nextPage(); !page.isEmpty(); page = cursor.nextPage()) {
+                for (LedgerItem item : page) {
+                    if (!first) {
+                        writer.writeByte(',');
+                    }
+                    writer.newLine();
+                    writeItem(writer, item);
+                    first = false;
+                }
+            }
+            writer.newLine().writeByte(']').newLine();
+        }
+    }
+    
+    private void getItem(HttpExchange exchange, int id) throws IOException {
+        LedgerItem item = ledgerService.getItem(id);
+        if (item == null) {
+            sendError(exchange, 404, "ID " + id + "를 가진 항목이 존재하지 않습니다.");
+            return;
+        }
+        sendItem(exchange, 200, item);
+    }
+    
+    /**
+     * JSON 본문의 필드를 CLI와 같은 규칙으로 검증한 뒤 항목을 추가합니다.
+     */
+    private void addItem(HttpExchange exchange) throws IOException {
+        Map<String, String> body = parseJsonObject(readBody(exchange));
+        
+        ValidationUtil.ValidationResult date = ValidationUtil.validateDate(body.get("date"));
+        ValidationUtil.ValidationResult amount = ValidationUtil.validateAmount(body.get("amount"));
+        ValidationUtil.ValidationResult category = ValidationUtil.validateCategory(body.get("category"));
+        ValidationUtil.ValidationResult note = ValidationUtil.validateNote(body.get("note"));
+        for (ValidationUtil.ValidationResult result : new ValidationUtil.ValidationResult[] {date, amount, category, note}) {
+            if (!result.isValid()) {
+                sendError(exchange, 400, result.getErrorMessage());
+                return;
+            }
+        }
+        
+        LedgerItem item = ledgerService.createItem(date.getValue(LocalDate.class), amount.getValue(Integer.class),
+            category.getValue(String.class), note.getValue(String.class));
+        if (item == null) {
+            sendError(exchange, 500, "항목을 파일에 저장하지 못했습니다.");
+            return;
+        }
+        exchange.getResponseHeaders().set("Location", "/items/" + item.getId());
+        sendItem(exchange, 201, item);
+    }
+    
+    private void deleteItem(HttpExchange exchange, int id) throws IOException {
+        if (!ledgerService.removeItem(id)) {
+            sendError(exchange, 404, "ID " + id + "를 가진 항목이 존재하지 않습니다.");
+            return;
+        }
+        exchange.sendResponseHeaders(204, -1);
+    }
+    
+    // ---- /summary ----
+    
+    /**
+     * 월별 집계를 JSON으로 보냅니다. 월마다 전체 합계와 항목이 있는 카테고리의 집계를 포함합니다.
+     */
+    private void handleSummary(HttpExchange exchange) throws IOException {
+        try {
+            if (!exchange.getRequestMethod().equals("GET")) {
+                sendError(exchange, 405, "지원하지 않는 메서드입니다: " + exchange.getRequestMethod());
+                return;
+            }
+            
+            String month = parseQuery(exchange.getRequestURI().getRawQuery()).get("month");
+            List<YearMonth> months = ledgerService.getSummaryMonths();
+            if (month != null) {
+                try {
+                    months = Collections.singletonList(YearMonth.parse(month.trim()));
+                } catch (DateTimeParseException e) {
+                    throw new IllegalArgumentException("유효하지 않은 연월 형식입니다. YYYY-MM 형식을 사용해주세요.");
+                }
+            }
+            
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(200, 0);
+            try (CsvChannelWriter writer = openWriter(exchange)) {
+                writer.writeByte('[');
+                for (int i = 0; i < months.size(); i++) {
+                    YearMonth yearMonth = months.get(i);
+                    writer.writeAscii(i > 0 ? ",\n{\"month\":\"" : "\n{\"month\":\"")
+                        .writeAscii(yearMonth.toString()).writeAscii("\",\"total\":");
+                    writeSummary(writer, ledgerService.getMonthSummary(yearMonth));
+                    writer.writeAscii(",\"categories\":{");
+                    boolean first = true;
+                    for (Category category : Category.values()) {
+                        RollupEngine.Summary summary = ledgerService.getSummary(yearMonth, category);
+                        if (summary.getCount() == 0) {
+                            continue;
+                        }
+                        writer.writeAscii(first ? "\"" : ",\"").writeAscii(category.getName()).writeAscii("\":");
+                        writeSummary(writer, summary);
+                        first = false;
+                    }
+                    writer.writeAscii("}}");
+                }
+                writer.newLine().writeByte(']').newLine();
+            }
+        } catch (IllegalArgumentException e) {
+            sendError(exchange, 400, e.getMessage());
+        } finally {
+            exchange.close();
+        }
+    }
+    
+    // ---- JSON 출력 ----
+    
+    /**
+     * 응답 본문용 작성기를 엽니다. 요청마다 만들어지므로 다이렉트 메모리를 쓰지 않는 작은 힙 버퍼를 사용하며,
+     * 스트림을 감싼 채널은 어차피 힙 배열을 거쳐 쓰므로 다이렉트 버퍼의 이점도 없습니다.
+     */
+    private static CsvChannelWriter openWriter(HttpExchange exchange) {
+        return new CsvChannelWriter(Channels.newChannel(exchange.getResponseBody()), StandardCharsets.UTF_8,
+            RESPONSE_BUFFER_SIZE, false);
+    }
+    
+    private static void writeItem(CsvChannelWriter writer, LedgerItem item) throws IOException {
+        writer.writeAscii("{\"id\":").writeInt(item.getId())
+            .writeAscii(",\"date\":\"").writeDate(item.getDate())
+            .writeAscii("\",\"category\":\"").writeAscii(item.getCategory())
+            .writeAscii("\",\"amount\":").writeInt(item.getAmount())
+            .writeAscii(",\"note\":\"").writeJsonString(item.getNote() != null ? item.getNote() : "")
+            .writeAscii("\"}");
+    }
+    
+    private static void writeSummary(CsvChannelWriter writer, RollupEngine.Summary summary) throws IOException {
+        writer.writeAscii("{\"count\":").writeInt(summary.getCount())
+            .writeAscii(",\"sum\":").writeLong(summary.getSum())
+            .writeAscii(",\"min\":").writeInt(summary.getMin())
+            .writeAscii(",\"max\":").writeInt(summary.getMax())
+            .writeAscii("}");
+    }
+    
+    private static void sendItem(HttpExchange exchange, int status, LedgerItem item) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, 0);
+        try (CsvChannelWriter writer = openWriter(exchange)) {
+            writeItem(writer, item);
+            writer.newLine();
+        }
+    }
+    
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, 0);
+        try (CsvChannelWriter writer = openWriter(exchange)) {
+            writer.writeAscii("{\"error\":\"").writeJsonString(message).writeAscii("\"}").newLine();
+        }
+    }
+    
+    // ---- 요청 파싱 ----
+    
+    private static LocalDate parseDate(String text) {
+        int from = ValidationUtil.trimStart(text, 0, text.length());
+        int to = ValidationUtil.trimEnd(text, from, text.length());
+        int key = ValidationUtil.parseDateKey(text, from, to);
+        if (key < 0) {
+            throw new IllegalArgumentException(ValidationUtil.dateErrorMessage(key));
+        }
+        return ValidationUtil.toLocalDate(key);
+    }
+    
+    /**
+     * URL 쿼리 문자열을 이름 -> 값 맵으로 변환합니다 (같은 이름이 여러 번 나오면 마지막 값).
+     */
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return params;
+        }
+        try {
+            for (String pair : rawQuery.split("&")) {
+                int eq = pair.indexOf('=');
+                String name = eq >= 0 ? pair.substring(0, eq) : pair;
+                String value = eq >= 0 ? pair.substring(eq + 1) : "";
+                params.put(URLDecoder.decode(name, "UTF-8"), URLDecoder.decode(value, "UTF-8"));
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("유효하지 않은 쿼리 문자열입니다.");
+        }
+        return params;
+    }
+    
+    private static String readBody(HttpExchange exchange) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        try (InputStream in = exchange.getRequestBody()) {
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                if (body.size() + read > MAX_BODY_BYTES) {
+                    throw new IllegalArgumentException("요청 본문이 너무 큽니다.");
+                }
+                body.write(buffer, 0, read);
+            }
+        }
+        return new String(body.toByteArray(), StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * 중첩 없는 JSON 객체를 이름 -> 값 문자열 맵으로 읽습니다.
+     * 문자열은 이스케이프를 해제하고, 숫자/true/false는 원문 그대로 두며, null은 값이 없는 것으로 봅니다.
+     */
+    private static Map<String, String> parseJsonObject(String json) {
+        Map<String, String> fields = new HashMap<>();
+        int[] pos = {skipSpace(json, 0)};
+        expect(json, pos, '{');
+        if (peek(json, pos) == '}') {
+            pos[0]++;
+            return fields;
+        }
+        while (true) {
+            String name = readJsonString(json, pos);
+            expect(json, pos, ':');
+            String value;
+            if (peek(json, pos) == '"') {
+                value = readJsonString(json, pos);
+            } else {
+                int start = pos[0];
+                while (pos[0] < json.length() && ",} \t\r\n".indexOf(json.charAt(pos[0])) < 0) {
+                    pos[0]++;
+                }
+                value = json.substring(start, pos[0]);
+                if (value.isEmpty() || value.charAt(0) == '{' || value.charAt(0) == '[') {
+                    throw new IllegalArgumentException("지원하지 않는 JSON 값입니다: " + name);
+                }
+                if (value.equals("null")) {
+                    value = null;
+                }
+            }
+            if (value != null) {
+                fields.put(name, value);
+            }
+            
+            char next = peek(json, pos);
+            pos[0]++;
+            if (next == '}') {
+                break;
+            }
+            if (next != ',') {
+                throw new IllegalArgumentException("유효하지 않은 JSON 본문입니다.");
+            }
+        }
+        if (skipSpace(json, pos[0]) != json.length()) {
+            throw new IllegalArgumentException("유효하지 않은 JSON 본문입니다.");
+        }
+        return fields;
+    }
+    
+    private static String readJsonString(String json, int[] pos) {
+        expect(json, pos, '"');
+        StringBuilder text = new StringBuilder();
+        int i = pos[0];
+        while (i < json.length()) {
+            char c = json.charAt(i++);
+            if (c == '"') {
+                pos[0] = i;
+                return text.toString();
+            }
+            if (c != '\\') {
+                text.append(c);
+                continue;
+            }
+            if (i >= json.length()) {
+                break;
+            }
+            char escape = json.charAt(i++);
+            switch (escape) {
+                case 'b':
+                    text.append('\b');
+                    break;
+                case 'f':
+                    text.append('\f');
+                    break;
+                case 'n':
+                    text.append('\n');
+                    break;
+                case 'r':
+                    text.append('\r');
+                    break;
+                case 't':
+                    text.append('\t');
+                    break;
+                case 'u':
+                    if (i + 4 > json.length()) {
+                        throw new IllegalArgumentException("유효하지 않은 JSON 문자열입니다.");
+                    }
+                    try {
+                        text.append((char) Integer.parseInt(json.substring(i, i + 4), 16));
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("유효하지 않은 JSON 문자열입니다.");
+                    }
+                    i += 4;
+                    break;
+                default:
+                    text.append(escape);
+            }
+        }
+        throw new IllegalArgumentException("JSON 문자열이 닫히지 않았습니다.");
+    }
+    
+    private static void expect(String json, int[] pos, char expected) {
+        if (peek(json, pos) != expected) {
+            throw new IllegalArgumentException("유효하지 않은 JSON 본문입니다: '" + expected + "'가 필요합니다.");
+        }
+        pos[0]++;
+    }
+    
+    /**
+     * 공백을 건너뛴 다음 문자를 가져옵니다 (끝이면 0).
+     */
+    private static char peek(String json, int[] pos) {
+        pos[0] = skipSpace(json, pos[0]);
+        return pos[0] < json.length() ? json.charAt(pos[0]) : 0;
+    }
+    
+    private static int skipSpace(String json, int i) {
+        while (i < json.length() && Character.isWhitespace(json.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+}
@@ -0,0 +1,71 @@
+package com.accountbook.ui;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.PrintStream;
+
+/**
+ * 긴 조회 결과를 외부 페이저 프로그램(기본값 less)으로 보여줍니다.
+ * 환경 변수 PAGER가 있으면 그 명령을 사용합니다. 페이저의 화면 출력은 현재 터미널로 연결되고,
+ * 키 입력은 페이저가 터미널에서 직접 읽으므로 CLI의 표준 입력과 섞이지 않습니다.
+ */
+public class Pager implements Closeable {
+    
+    // -F: 한 화면이면 바로 종료, -R: 색상 코드 통과, -S: 긴 줄 자르기, -X: 종료 후 화면 유지
+    private static final String DEFAULT_COMMAND = "less -FRSX";
+    private static final int BUFFER_SIZE = 1 << 16;
+    
+    private final Process process;
+    private final PrintStream stream;
+    
+    private Pager(Process process) {
+        this.process = process;
+        this.stream = new PrintStream(new BufferedOutputStream(process.getOutputStream(), BUFFER_SIZE), false);
+    }
+    
+    /**
+     * 페이저를 실행합니다. 터미널에 연결되어 있지 않거나 페이저를 실행할 수 없으면 null을 반환합니다.
+     */
+    public static Pager open() {
+        if (System.console() == null) {
+            return null;
+        }
+        
+        String command = System.getenv("PAGER");
+        if (command == null || command.trim().isEmpty()) {
+            command = DEFAULT_COMMAND;
+        }
+        
+        try {
+            Process process = new ProcessBuilder(command.trim().split("\\s+"))
+                .redirectOutput(ProcessBuilder.Redirect.INHERIT)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+            return new Pager(process);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+    
+    /**
+     * 페이저로 보낼 출력 스트림을 가져옵니다. 사용자가 페이저를 먼저 종료하면 checkError()가 true가 됩니다.
+     */
+    public PrintStream getStream() {
+        return stream;
+    }
+    
+    /**
+     * 출력을 마치고 사용자가 페이저를 종료할 때까지 기다립니다.
+     */
+    @Override
+    public void close() {
+        stream.close();
+        try {
+            process.waitFor();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            process.destroy();
+        }
+    }
+}
\ No newline at end of file
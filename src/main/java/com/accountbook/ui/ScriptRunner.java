@@ -0,0 +1,279 @@
+package com.accountbook.ui;
+
+import com.accountbook.model.Category;
+import com.accountbook.model.LedgerItem;
+import com.accountbook.service.ItemCursor;
+import com.accountbook.service.LedgerQuery;
+import com.accountbook.service.LedgerService;
+import com.accountbook.util.ValidationUtil;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 명령 파일(또는 표준 입력)의 명령을 메뉴 없이 한 줄씩 실행하는 스크립트 실행기입니다.
+ *
+ * 명령 형식 (한 줄에 하나, 빈 줄과 #으로 시작하는 줄은 무시):
+ * - add 날짜 금액 카테고리 [메모]   항목 추가, 새 ID 출력
+ * - del ID                           항목 삭제
+ * - get ID                           항목 하나 출력
+ * - range 시작일 종료일 [카테고리]   기간 내 항목 출력
+ * - cat 카테고리                     카테고리 항목 출력
+ * - total 시작일 종료일 [카테고리]   기간 합계 출력
+ * - count                            전체 항목 수 출력
+ * - save                             지금까지의 변경 저장
+ *
+ * 항목은 id,date,category,amount,note 형식으로 표준 출력에 쓰고, 오류와 실행 요약은 표준 오류에 씁니다.
+ * 변경은 매번 저장하지 않고 스크립트 끝(또는 commitEvery개 명령마다)에 한 번에 저장합니다.
+ * 인자는 ValidationUtil의 범위 기반 검증기로 줄에서 직접 읽으므로 명령마다 토큰 배열을 만들지 않습니다.
+ */
+public class ScriptRunner {
+    
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+    private static final int PAGE_SIZE = 1024;
+    
+    private final LedgerService ledgerService;
+    private final int commitEvery;
+    private final PrintWriter out;
+    
+    // 현재 줄과 읽는 위치
+    private String line;
+    private int pos;
+    
+    private int executed;
+    private int failed;
+    
+    /**
+     * @param commitEvery 이 개수의 명령마다 변경을 저장 (0 이하이면 스크립트 끝에서만 저장)
+     */
+    public ScriptRunner(LedgerService ledgerService, int commitEvery) {
+        this.ledgerService = ledgerService;
+        this.commitEvery = commitEvery;
+        this.out = new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out), OUTPUT_BUFFER_SIZE));
+    }
+    
+    /**
+     * 모든 명령을 실행하고 마지막에 변경을 저장합니다. 오류가 없고 저장에 성공하면 true를 반환합니다.
+     */
+    public boolean run(BufferedReader reader) throws IOException {
+        long started = System.nanoTime();
+        ledgerService.setDeferredPersistence(true);
+        boolean saved = true;
+        try {
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                pos = ValidationUtil.trimStart(line, 0, line.length());
+                if (pos == line.length() || line.charAt(pos) == '#') {
+                    continue;
+                }
+                
+                try {
+                    execute();
+                } catch (IllegalArgumentException e) {
+                    failed++;
+                    out.flush();
+                    System.err.printf("오류 (%d번 줄): %s%n", lineNumber, e.getMessage());
+                }
+                executed++;
+                
+                if (commitEvery > 0 && executed % commitEvery == 0) {
+                    saved &= commit();
+                }
+            }
+            saved &= commit();
+        } finally {
+            out.flush();
+            ledgerService.setDeferredPersistence(false);
+        }
+        
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        System.err.printf("%d개의 명령을 실행했습니다 (오류 %d개, %dms, 초당 %d개).%n",
+            executed, failed, elapsedMillis, elapsedMillis > 0 ? executed * 1000L / elapsedMillis : executed);
+        return failed == 0 && saved;
+    }
+    
+    private boolean commit() {
+        out.flush();
+        boolean saved = ledgerService.commitDeferred();
+        if (!saved) {
+            System.err.println("변경 사항을 파일에 저장하지 못했습니다.");
+        }
+        return saved;
+    }
+    
+    /**
+     * 현재 줄의 명령을 실행합니다. 인자가 잘못되면 IllegalArgumentException을 던집니다.
+     */
+    private void execute() {
+        int start = pos;
+        int end = nextTokenEnd();
+        
+        if (isCommand(start, end, "add")) {
+            addItem();
+        } else if (isCommand(start, end, "del")) {
+            int id = nextId();
+            expectEnd();
+            if (!ledgerService.removeItem(id)) {
+                throw new IllegalArgumentException("ID " + id + "를 가진 항목이 존재하지 않습니다.");
+            }
+        } else if (isCommand(start, end, "get")) {
+            int id = nextId();
+            expectEnd();
+            LedgerItem item = ledgerService.getItem(id);
+            if (item == null) {
+                throw new IllegalArgumentException("ID " + id + "를 가진 항목이 존재하지 않습니다.");
+            }
+            printItem(item);
+        } else if (isCommand(start, end, "range")) {
+            LedgerQuery query = new LedgerQuery().dateRange(nextDate(), nextDate());
+            if (hasMore()) {
+                query.category(nextCategory());
+            }
+            expectEnd();
+            printItems(ledgerService.openCursor(query, PAGE_SIZE));
+        } else if (isCommand(start, end, "cat")) {
+            Category category = nextCategory();
+            expectEnd();
+            printItems(ledgerService.openCursor(new LedgerQuery().category(category), PAGE_SIZE));
+        } else if (isCommand(start, end, "total")) {
+            LocalDate startDate = nextDate();
+            LocalDate endDate = nextDate();
+            Category category = hasMore() ? nextCategory() : null;
+            expectEnd();
+            out.println(ledgerService.getTotalAmount(startDate, endDate, category));
+        } else if (isCommand(start, end, "count")) {
+            expectEnd();
+            out.println(ledgerService.getItemCount());
+        } else if (isCommand(start, end, "save")) {
+            expectEnd();
+            if (!commit()) {
+                throw new IllegalArgumentException("저장에 실패했습니다.");
+            }
+        } else {
+            throw new IllegalArgumentException("알 수 없는 명령입니다: " + line.substring(start, end));
+        }
+    }
+    
+    /**
+     * add 날짜 금액 카테고리 [메모]를 CLI와 같은 규칙으로 검증하여 추가합니다. 메모는 줄의 나머지 전체입니다.
+     */
+    private void addItem() {
+        int start = skipSpace();
+        int epochDay = ValidationUtil.parseDate(line, start, nextTokenEnd());
+        if (epochDay < 0) {
+            throw new IllegalArgumentException(ValidationUtil.dateErrorMessage(epochDay));
+        }
+        
+        start = skipSpace();
+        int amount = ValidationUtil.parseAmount(line, start, nextTokenEnd());
+        if (amount < 0) {
+            throw new IllegalArgumentException(ValidationUtil.amountErrorMessage(amount));
+        }
+        
+        Category category = nextCategory();
+        
+        int noteStart = skipSpace();
+        int noteEnd = ValidationUtil.trimEnd(line, noteStart, line.length());
+        int code = ValidationUtil.checkNote(line, noteStart, noteEnd);
+        if (code < 0) {
+            throw new IllegalArgumentException(ValidationUtil.noteErrorMessage(code));
+        }
+        
+        LedgerItem item = ledgerService.createItem(LocalDate.ofEpochDay(epochDay), amount, category.getName(),
+            line.substring(noteStart, noteEnd));
+        if (item == null) {
+            throw new IllegalArgumentException("항목을 파일에 저장하지 못했습니다.");
+        }
+        out.println(item.getId());
+    }
+    
+    private void printItems(ItemCursor cursor) {
+        for (List<LedgerItem> page = cursor.nextPage(); !page.isEmpty(); page = cursor.nextPage()) {
+            for (LedgerItem item : page) {
+                printItem(item);
+            }
+        }
+    }
+    
+    private void printItem(LedgerItem item) {
+        out.print(item.getId());
+        out.print(',');
+        out.print(item.getDate());
+        out.print(',');
+        out.print(item.getCategory());
+        out.print(',');
+        out.print(item.getAmount());
+        out.print(',');
+        out.println(item.getNote() != null ? item.getNote() : "");
+    }
+    
+    // ---- 인자 읽기 ----
+    
+    private int nextId() {
+        int start = skipSpace();
+        int id = ValidationUtil.parseDigits(line, start, nextTokenEnd());
+        if (id <= 0) {
+            throw new IllegalArgumentException("유효하지 않은 ID입니다.");
+        }
+        return id;
+    }
+    
+    /**
+     * 날짜 인자를 읽습니다. 조회 조건이므로 2025-10-01 이전 날짜도 허용합니다.
+     */
+    private LocalDate nextDate() {
+        int start = skipSpace();
+        int end = nextTokenEnd();
+        int key = start == end ? ValidationUtil.ERROR_EMPTY : ValidationUtil.parseDateKey(line, start, end);
+        if (key < 0) {
+            throw new IllegalArgumentException(ValidationUtil.dateErrorMessage(key));
+        }
+        return ValidationUtil.toLocalDate(key);
+    }
+    
+    private Category nextCategory() {
+        int start = skipSpace();
+        int ordinal = ValidationUtil.parseCategory(line, start, nextTokenEnd());
+        if (ordinal < 0) {
+            throw new IllegalArgumentException(ValidationUtil.categoryErrorMessage(ordinal));
+        }
+        return Category.fromOrdinal(ordinal);
+    }
+    
+    private boolean isCommand(int start, int end, String name) {
+        return end - start == name.length() && line.regionMatches(true, start, name, 0, name.length());
+    }
+    
+    private boolean hasMore() {
+        return skipSpace() < line.length();
+    }
+    
+    private void expectEnd() {
+        if (hasMore()) {
+            throw new IllegalArgumentException("인자가 너무 많습니다: " + line.substring(pos).trim());
+        }
+    }
+    
+    /**
+     * 공백을 건너뛰고 다음 토큰의 시작 위치를 반환합니다.
+     */
+    private int skipSpace() {
+        pos = ValidationUtil.trimStart(line, pos, line.length());
+        return pos;
+    }
+    
+    /**
+     * 현재 위치부터 공백 전까지를 토큰으로 보고, 위치를 토큰 끝으로 옮긴 뒤 그 위치를 반환합니다.
+     */
+    private int nextTokenEnd() {
+        while (pos < line.length() && line.charAt(pos) > ' ') {
+            pos++;
+        }
+        return pos;
+    }
+}
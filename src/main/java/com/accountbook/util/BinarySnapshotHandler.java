@@ -0,0 +1,277 @@
+package com.accountbook.util;
+
+import com.accountbook.model.LedgerItem;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 가계부 데이터를 버전이 있는 바이너리 스냅샷으로 저장하고 불러옵니다.
+ *
+ * 파일 구조 (빅 엔디언):
+ * - 헤더: 매직 넘버, 버전, 항목 수, 카테고리 이름 표
+ * - 고정 폭 열: id[int], 날짜[epoch-day int], 금액[int], 메모 번호[int], 카테고리[byte]
+ * - 메모 문자열 표: 개수, (길이 + UTF-8 바이트) 목록 (중복 메모는 한 번만 저장)
+ * - CRC32 체크섬
+ */
+public class BinarySnapshotHandler implements LedgerPersistence {
+    
+    private static final int MAGIC = 0x4142534E; // "ABSN"
+    private static final int VERSION = 1;
+    private static final String SNAPSHOT_SUFFIX = ".snap";
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+    
+    private final String fileName;
+    
+    public BinarySnapshotHandler(String csvFileName) {
+        this.fileName = csvFileName + SNAPSHOT_SUFFIX;
+    }
+    
+    /**
+     * 스냅샷을 불러옵니다. 손상되었거나 없으면 빈 목록을 반환합니다.
+     */
+    @Override
+    public List<LedgerItem> loadFromFile() {
+        List<LedgerItem> items = loadSnapshot();
+        return items != null ? items : new ArrayList<LedgerItem>();
+    }
+    
+    /**
+     * 스냅샷을 불러옵니다. 파일이 없거나, 버전이 다르거나, 손상되었으면 null을 반환합니다.
+     */
+    public List<LedgerItem> loadSnapshot() {
+        File file = new File(fileName);
+        if (!file.exists()) {
+            return null;
+        }
+        
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r");
+             FileChannel channel = raf.getChannel()) {
+            long size = channel.size();
+            if (size < 16 || size > Integer.MAX_VALUE) {
+                System.out.printf("경고: 스냅샷 %s의 크기가 유효하지 않습니다.%n", fileName);
+                return null;
+            }
+            
+            // 메모리 맵 대신 힙 버퍼로 읽음 (Windows에서는 매핑이 남아 있으면 다음 저장의 파일 교체가 실패함)
+            ByteBuffer buf = ByteBuffer.allocate((int) size);
+            while (buf.hasRemaining()) {
+                if (channel.read(buf) < 0) {
+                    throw new IOException("파일이 예상보다 짧습니다.");
+                }
+            }
+            buf.flip();
+            
+            // 체크섬 확인 (마지막 4바이트 제외)
+            ByteBuffer body = buf.duplicate();
+            body.limit((int) size - 4);
+            CRC32 crc = new CRC32();
+            crc.update(body);
+            if ((int) crc.getValue() != buf.getInt((int) size - 4)) {
+                System.out.printf("경고: 스냅샷 %s의 체크섬이 일치하지 않습니다.%n", fileName);
+                return null;
+            }
+            
+            buf.limit((int) size - 4);
+            return readBody(buf);
+            
+        } catch (IOException | BufferUnderflowException | IllegalArgumentException e) {
+            System.out.printf("경고: 스냅샷 %s 읽기 오류: %s%n", fileName, e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * 체크섬이 확인된 본문을 열 단위로 읽어 항목 목록을 만듭니다.
+     */
+    private List<LedgerItem> readBody(ByteBuffer buf) {
+        if (buf.getInt() != MAGIC) {
+            throw new IllegalArgumentException("스냅샷 형식이 아닙니다.");
+        }
+        int version = buf.getInt();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 스냅샷 버전: " + version);
+        }
+        
+        int count = buf.getInt();
+        if (count < 0) {
+            throw new IllegalArgumentException("유효하지 않은 항목 수: " + count);
+        }
+        
+        // 카테고리 이름 표를 현재 카테고리 목록에 매핑
+        int categoryCount = buf.get() & 0xFF;
+        String[] categories = new String[categoryCount];
+        for (int i = 0; i < categoryCount; i++) {
+            String name = readString(buf, buf.get() & 0xFF);
+            if (!LedgerItem.isValidCategory(name)) {
+                throw new IllegalArgumentException("유효하지 않은 카테고리: " + name);
+            }
+            categories[i] = name;
+        }
+        
+        int[] ids = new int[count];
+        int[] epochDays = new int[count];
+        int[] amounts = new int[count];
+        int[] noteIndexes = new int[count];
+        byte[] categoryOrdinals = new byte[count];
+        
+        readInts(buf, ids);
+        readInts(buf, epochDays);
+        readInts(buf, amounts);
+        readInts(buf, noteIndexes);
+        buf.get(categoryOrdinals);
+        
+        int noteCount = buf.getInt();
+        if (noteCount < 0) {
+            throw new IllegalArgumentException("유효하지 않은 메모 수: " + noteCount);
+        }
+        String[] notes = new String[noteCount];
+        for (int i = 0; i < noteCount; i++) {
+            notes[i] = readString(buf, buf.getInt());
+        }
+        
+        List<LedgerItem> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int category = categoryOrdinals[i] & 0xFF;
+            int note = noteIndexes[i];
+            if (category >= categoryCount || note < 0 || note >= noteCount
+                    || !ValidationUtil.isValidId(ids[i])) {
+                throw new IllegalArgumentException("유효하지 않은 참조 (항목 " + i + ")");
+            }
+            items.add(new LedgerItem(ids[i], LocalDate.ofEpochDay(epochDays[i]),
+                amounts[i], categories[category], notes[note]));
+        }
+        return items;
+    }
+    
+    private static void readInts(ByteBuffer buf, int[] target) {
+        buf.asIntBuffer().get(target);
+        buf.position(buf.position() + target.length * 4);
+    }
+    
+    private static String readString(ByteBuffer buf, int length) {
+        if (length < 0 || length > buf.remaining()) {
+            throw new IllegalArgumentException("유효하지 않은 문자열 길이: " + length);
+        }
+        byte[] bytes = new byte[length];
+        buf.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * 항목 목록을 바이너리 스냅샷으로 저장합니다.
+     */
+    @Override
+    public boolean saveToFile(List<LedgerItem> items) {
+        int count = items.size();
+        
+        // 메모 문자열 표 구성 (중복 제거)
+        Map<String, Integer> noteTable = new HashMap<>();
+        List<String> notes = new ArrayList<>();
+        int[] noteIndexes = new int[count];
+        for (int i = 0; i < count; i++) {
+            String note = items.get(i).getNote() != null ? items.get(i).getNote() : "";
+            Integer index = noteTable.get(note);
+            if (index == null) {
+                index = notes.size();
+                noteTable.put(note, index);
+                notes.add(note);
+            }
+            noteIndexes[i] = index;
+        }
+        
+        CRC32 crc = new CRC32();
+        try (FileOutputStream fileOut = new FileOutputStream(fileName);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                 new CheckedOutputStream(fileOut, crc), WRITE_BUFFER_SIZE))) {
+            
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(count);
+            
+            out.writeByte(LedgerItem.VALID_CATEGORIES.size());
+            for (String category : LedgerItem.VALID_CATEGORIES) {
+                byte[] bytes = category.getBytes(StandardCharsets.UTF_8);
+                out.writeByte(bytes.length);
+                out.write(bytes);
+            }
+            
+            for (LedgerItem item : items) {
+                out.writeInt(item.getId());
+            }
+            for (LedgerItem item : items) {
+                out.writeInt((int) item.getDate().toEpochDay());
+            }
+            for (LedgerItem item : items) {
+                out.writeInt(item.getAmount());
+            }
+            for (int i = 0; i < count; i++) {
+                out.writeInt(noteIndexes[i]);
+            }
+            for (LedgerItem item : items) {
+                out.writeByte(item.getCategoryType().ordinal());
+            }
+            
+            out.writeInt(notes.size());
+            for (String note : notes) {
+                byte[] bytes = note.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+            
+            // 체크섬은 본문만 대상으로 하므로 마지막에 직접 기록
+            out.flush();
+            int checksum = (int) crc.getValue();
+            fileOut.write(new byte[] {
+                (byte) (checksum >>> 24), (byte) (checksum >>> 16), (byte) (checksum >>> 8), (byte) checksum
+            });
+            return true;
+            
+        } catch (IOException e) {
+            System.err.printf("스냅샷 %s 쓰기 오류: %s%n", fileName, e.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * 스냅샷이 주어진 CSV 파일보다 최신인지 확인합니다.
+     * CSV 파일이 없으면 스냅샷을 신뢰하지 않습니다.
+     */
+    public boolean isNewerThan(String csvFileName) {
+        File snapshot = new File(fileName);
+        File csv = new File(csvFileName);
+        return snapshot.exists() && csv.exists() && snapshot.lastModified() >= csv.lastModified();
+    }
+    
+    /**
+     * 스냅샷 파일을 삭제합니다.
+     */
+    public boolean delete() {
+        File snapshot = new File(fileName);
+        return !snapshot.exists() || snapshot.delete();
+    }
+    
+    @Override
+    public boolean fileExists() {
+        return new File(fileName).exists();
+    }
+    
+    @Override
+    public String getFileName() {
+        return fileName;
+    }
+}
@@ -0,0 +1,445 @@
+package com.accountbook.util;
+
+import com.accountbook.model.LedgerItem;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 가계부 CSV 파일을 청크 단위로 병렬 파싱하는 로더입니다.
+ * 파일을 줄 경계에 맞춘 청크로 나누고, 각 청크를 fork-join 풀에서
+ * 위치 지정 읽기로 힙 버퍼에 읽어 바이트 단위 파서로 처리한 뒤 ID 순서로 병합합니다.
+ *
+ * 메모리 맵은 사용하지 않습니다. 매핑은 GC가 회수할 때까지 해제되지 않으며,
+ * Windows에서는 매핑이 남아 있는 동안 파일을 교체하거나 삭제할 수 없어 다음 저장이 실패할 수 있습니다.
+ */
+public class ChunkedCsvLoader {
+    
+    // 청크 하나의 최소/최대 크기 (청크마다 같은 크기의 힙 버퍼를 사용)
+    private static final long MIN_CHUNK_SIZE = 1L << 20;
+    private static final long MAX_CHUNK_SIZE = 64L << 20;
+    
+    // 줄 경계를 찾을 때 한 번에 읽는 바이트 수
+    private static final int BOUNDARY_SCAN_SIZE = 8192;
+    
+    private static final byte[][] CATEGORY_BYTES = new byte[LedgerItem.VALID_CATEGORIES.size()][];
+    
+    static {
+        for (int i = 0; i < CATEGORY_BYTES.length; i++) {
+            CATEGORY_BYTES[i] = LedgerItem.VALID_CATEGORIES.get(i).getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+    
+    private final byte[] header;
+    private final Charset charset;
+    private final ForkJoinPool pool;
+    
+    public ChunkedCsvLoader(String header) {
+        this(header, Charset.defaultCharset(), ForkJoinPool.commonPool());
+    }
+    
+    public ChunkedCsvLoader(String header, Charset charset, ForkJoinPool pool) {
+        this.header = header.getBytes(charset);
+        this.charset = charset;
+        this.pool = pool;
+    }
+    
+    /**
+     * 파일 전체를 불러옵니다. 헤더가 유효하지 않으면 headerValid가 false인 결과를 반환합니다.
+     */
+    public LoadResult load(String fileName) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(fileName, "r");
+             FileChannel channel = raf.getChannel()) {
+            long size = channel.size();
+            
+            long dataStart = checkHeader(channel, size);
+            if (dataStart < 0) {
+                return new LoadResult(false, new ArrayList<LedgerItem>(), new ArrayList<String>());
+            }
+            
+            List<long[]> ranges = splitIntoChunks(channel, dataStart, size);
+            List<ChunkTask> tasks = new ArrayList<>(ranges.size());
+            for (long[] range : ranges) {
+                ChunkTask task = new ChunkTask(channel, range[0], range[1]);
+                tasks.add(task);
+                pool.execute(task);
+            }
+            
+            List<ChunkResult> results = new ArrayList<>(tasks.size());
+            for (ChunkTask task : tasks) {
+                results.add(task.join());
+            }
+            
+            return merge(results);
+        }
+    }
+    
+    /**
+     * 첫 줄이 헤더와 일치하는지 확인하고, 데이터가 시작되는 오프셋을 반환합니다.
+     * 헤더가 없거나 일치하지 않으면 -1을 반환합니다.
+     */
+    private long checkHeader(FileChannel channel, long size) throws IOException {
+        int probe = (int) Math.min(size, header.length + 2);
+        ByteBuffer buf = ByteBuffer.allocate(probe);
+        channel.read(buf, 0);
+        
+        int len = buf.position();
+        int end = 0;
+        while (end < len && buf.get(end) != '\n') {
+            end++;
+        }
+        
+        int lineEnd = end;
+        if (lineEnd > 0 && buf.get(lineEnd - 1) == '\r') {
+            lineEnd--;
+        }
+        
+        if (lineEnd != header.length) {
+            return -1;
+        }
+        for (int i = 0; i < lineEnd; i++) {
+            if (buf.get(i) != header[i]) {
+                return -1;
+            }
+        }
+        
+        return end < len ? end + 1 : size;
+    }
+    
+    /**
+     * 데이터 영역을 줄 경계에 맞춘 [시작, 끝) 오프셋 범위 목록으로 나눕니다.
+     */
+    private List<long[]> splitIntoChunks(FileChannel channel, long dataStart, long size) throws IOException {
+        List<long[]> ranges = new ArrayList<>();
+        long remaining = size - dataStart;
+        if (remaining <= 0) {
+            return ranges;
+        }
+        
+        long target = remaining / (pool.getParallelism() * 4L);
+        long chunkSize = Math.max(MIN_CHUNK_SIZE, Math.min(MAX_CHUNK_SIZE, target));
+        
+        long start = dataStart;
+        ByteBuffer scan = ByteBuffer.allocate(BOUNDARY_SCAN_SIZE);
+        while (start < size) {
+            long end = Math.min(size, start + chunkSize);
+            end = nextLineStart(channel, end, size, scan);
+            ranges.add(new long[] {start, end});
+            start = end;
+        }
+        return ranges;
+    }
+    
+    /**
+     * pos 이후 첫 줄바꿈 다음 오프셋을 찾습니다. 파일 끝이면 size를 반환합니다.
+     */
+    private long nextLineStart(FileChannel channel, long pos, long size, ByteBuffer scan) throws IOException {
+        while (pos < size) {
+            scan.clear();
+            int read = channel.read(scan, pos);
+            if (read <= 0) {
+                return size;
+            }
+            for (int i = 0; i < read; i++) {
+                if (scan.get(i) == '\n') {
+                    return pos + i + 1;
+                }
+            }
+            pos += read;
+        }
+        return size;
+    }
+    
+    /**
+     * 청크 결과를 합치고, 청크별 줄 수로 경고의 실제 줄 번호를 계산합니다.
+     */
+    private LoadResult merge(List<ChunkResult> results) {
+        int total = 0;
+        for (ChunkResult result : results) {
+            total += result.items.size();
+        }
+        
+        List<LedgerItem> items = new ArrayList<>(total);
+        List<String> warnings = new ArrayList<>();
+        
+        // 헤더가 1번 줄이므로 데이터는 2번 줄부터 시작
+        int lineBase = 2;
+        boolean sorted = true;
+        int lastId = Integer.MIN_VALUE;
+        
+        for (ChunkResult result : results) {
+            for (LedgerItem item : result.items) {
+                if (item.getId() < lastId) {
+                    sorted = false;
+                }
+                lastId = item.getId();
+                items.add(item);
+            }
+            for (int i = 0; i < result.warningLines.size(); i++) {
+                warnings.add(String.format("경고: %d번 줄의 유효하지 않은 항목을 건너뜁니다: %s",
+                    lineBase + result.warningLines.get(i), result.warningMessages.get(i)));
+            }
+            lineBase += result.lineCount;
+        }
+        
+        // 파일이 ID 순서가 아닐 때만 정렬 (안정 정렬이므로 같은 ID는 파일 순서 유지)
+        if (!sorted) {
+            Collections.sort(items, Comparator.comparingInt(LedgerItem::getId));
+        }
+        
+        return new LoadResult(true, items, warnings);
+    }
+    
+    /**
+     * 파일의 position 위치부터 버퍼가 찰 때까지 읽습니다 (여러 스레드가 같은 채널에서 동시에 읽어도 안전).
+     */
+    private static void readFully(FileChannel channel, ByteBuffer buf, long position) throws IOException {
+        while (buf.hasRemaining()) {
+            int read = channel.read(buf, position + buf.position());
+            if (read < 0) {
+                throw new IOException("파일이 예상보다 짧습니다.");
+            }
+        }
+        buf.flip();
+    }
+    
+    /**
+     * 청크 하나를 읽고 파싱하는 fork-join 작업입니다.
+     */
+    private class ChunkTask extends RecursiveTask<ChunkResult> {
+        private static final long serialVersionUID = 1L;
+        
+        private final FileChannel channel;
+        private final long start;
+        private final long end;
+        
+        ChunkTask(FileChannel channel, long start, long end) {
+            this.channel = channel;
+            this.start = start;
+            this.end = end;
+        }
+        
+        @Override
+        protected ChunkResult compute() {
+            ChunkResult result = new ChunkResult();
+            ByteBuffer buf = ByteBuffer.allocate((int) (end - start));
+            try {
+                readFully(channel, buf, start);
+            } catch (IOException e) {
+                result.warningLines.add(0);
+                result.warningMessages.add("파일 읽기 오류: " + e.getMessage());
+                return result;
+            }
+            
+            LineParser parser = new LineParser(buf, charset);
+            int limit = buf.limit();
+            int lineStart = 0;
+            int lineIndex = 0;
+            
+            while (lineStart < limit) {
+                int lineEnd = lineStart;
+                while (lineEnd < limit && buf.get(lineEnd) != '\n') {
+                    lineEnd++;
+                }
+                
+                LedgerItem item = parser.parse(lineStart, lineEnd);
+                if (item != null) {
+                    result.items.add(item);
+                } else if (parser.error != null) {
+                    result.warningLines.add(lineIndex);
+                    result.warningMessages.add(parser.error);
+                }
+                
+                lineIndex++;
+                lineStart = lineEnd + 1;
+            }
+            
+            result.lineCount = lineIndex;
+            return result;
+        }
+    }
+    
+    /**
+     * 예외 없이 바이트 범위를 LedgerItem으로 변환하는 파서입니다.
+     * 실패 시 null을 반환하고 error에 사유를 남깁니다 (빈 줄은 error가 null).
+     */
+    private static class LineParser {
+        private final ByteBuffer buf;
+        private final Charset charset;
+        private final int[] fieldStart = new int[5];
+        private final int[] fieldEnd = new int[5];
+        private String error;
+        
+        LineParser(ByteBuffer buf, Charset charset) {
+            this.buf = buf;
+            this.charset = charset;
+        }
+        
+        LedgerItem parse(int from, int to) {
+            error = null;
+            
+            // 줄 앞뒤 공백과 CR 제거
+            while (from < to && buf.get(from) <= ' ') {
+                from++;
+            }
+            while (to > from && buf.get(to - 1) <= ' ') {
+                to--;
+            }
+            if (from == to) {
+                return null;
+            }
+            
+            int fields = 0;
+            int start = from;
+            for (int i = from; i <= to; i++) {
+                if (i == to || buf.get(i) == ',') {
+                    if (fields < 5) {
+                        fieldStart[fields] = start;
+                        fieldEnd[fields] = i;
+                    }
+                    fields++;
+                    start = i + 1;
+                }
+            }
+            
+            if (fields != 5) {
+                error = "CSV 줄 파싱 오류: 유효하지 않은 CSV 형식: 5개의 필드가 필요하지만, " + fields + "개가 발견되었습니다.";
+                return null;
+            }
+            
+            for (int f = 0; f < 5; f++) {
+                trimField(f);
+            }
+            
+            int id = parseDigits(0);
+            if (!ValidationUtil.isValidId(id)) {
+                error = "CSV 줄 파싱 오류: 유효하지 않은 ID (1 이상 " + ValidationUtil.MAX_ID + " 이하)";
+                return null;
+            }
+            
+            LocalDate date = parseDate(1);
+            if (date == null) {
+                error = "CSV 줄 파싱 오류: 유효하지 않은 날짜";
+                return null;
+            }
+            
+            int category = matchCategory(2);
+            if (category < 0) {
+                error = "CSV 줄 파싱 오류: 유효하지 않은 카테고리: " + decode(2);
+                return null;
+            }
+            
+            int amount = parseDigits(3);
+            if (amount <= 0) {
+                error = "CSV 줄 파싱 오류: 유효하지 않은 금액: " + decode(3);
+                return null;
+            }
+            
+            return new LedgerItem(id, date, amount, LedgerItem.VALID_CATEGORIES.get(category), decode(4));
+        }
+        
+        private void trimField(int f) {
+            int s = fieldStart[f];
+            int e = fieldEnd[f];
+            while (s < e && buf.get(s) <= ' ') {
+                s++;
+            }
+            while (e > s && buf.get(e - 1) <= ' ') {
+                e--;
+            }
+            fieldStart[f] = s;
+            fieldEnd[f] = e;
+        }
+        
+        private int parseDigits(int f) {
+            return ValidationUtil.parseDigits(buf, fieldStart[f], fieldEnd[f]);
+        }
+        
+        private LocalDate parseDate(int f) {
+            int key = ValidationUtil.parseDateKey(buf, fieldStart[f], fieldEnd[f]);
+            return key < 0 ? null : ValidationUtil.toLocalDate(key);
+        }
+        
+        /**
+         * 필드를 미리 인코딩된 카테고리 이름과 비교합니다. 일치하지 않으면 -1을 반환합니다.
+         */
+        private int matchCategory(int f) {
+            int s = fieldStart[f];
+            int len = fieldEnd[f] - s;
+            for (int c = 0; c < CATEGORY_BYTES.length; c++) {
+                byte[] name = CATEGORY_BYTES[c];
+                if (name.length != len) {
+                    continue;
+                }
+                int i = 0;
+                while (i < len && buf.get(s + i) == name[i]) {
+                    i++;
+                }
+                if (i == len) {
+                    return c;
+                }
+            }
+            return -1;
+        }
+        
+        private String decode(int f) {
+            int s = fieldStart[f];
+            int len = fieldEnd[f] - s;
+            if (len == 0) {
+                return "";
+            }
+            byte[] bytes = new byte[len];
+            for (int i = 0; i < len; i++) {
+                bytes[i] = buf.get(s + i);
+            }
+            return new String(bytes, charset);
+        }
+    }
+    
+    /**
+     * 청크 하나의 파싱 결과 (경고 줄 번호는 청크 내 상대 위치)
+     */
+    private static class ChunkResult {
+        private final List<LedgerItem> items = new ArrayList<>();
+        private final List<Integer> warningLines = new ArrayList<>();
+        private final List<String> warningMessages = new ArrayList<>();
+        private int lineCount;
+    }
+    
+    /**
+     * 불러오기 작업 결과를 위한 클래스
+     */
+    public static class LoadResult {
+        private final boolean headerValid;
+        private final List<LedgerItem> items;
+        private final List<String> warnings;
+        
+        public LoadResult(boolean headerValid, List<LedgerItem> items, List<String> warnings) {
+            this.headerValid = headerValid;
+            this.items = items;
+            this.warnings = warnings;
+        }
+        
+        public boolean isHeaderValid() {
+            return headerValid;
+        }
+        
+        public List<LedgerItem> getItems() {
+            return items;
+        }
+        
+        public List<String> getWarnings() {
+            return warnings;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.accountbook.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.time.LocalDate;
+
+/**
+ * 버퍼에 CSV 필드를 직접 인코딩하여 채널로 쓰는 작성기입니다.
+ * 행마다 String.format이나 중간 문자열을 만들지 않습니다.
+ * 파일 채널에는 다이렉트 버퍼를, 스트림을 감싼 채널처럼 다이렉트 버퍼의 이점이 없고
+ * 작성기가 많이 만들어지는 곳(HTTP 응답)에는 작은 힙 버퍼를 사용합니다.
+ */
+public class CsvChannelWriter implements Closeable {
+    
+    private static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+    
+    private final WritableByteChannel channel;
+    private final Charset charset;
+    private final ByteBuffer buffer;
+    private long bytesWritten;
+    
+    public CsvChannelWriter(WritableByteChannel channel, Charset charset) {
+        this(channel, charset, DEFAULT_BUFFER_SIZE);
+    }
+    
+    public CsvChannelWriter(WritableByteChannel channel, Charset charset, int bufferSize) {
+        this(channel, charset, bufferSize, true);
+    }
+    
+    /**
+     * @param direct true이면 다이렉트 버퍼를, false이면 힙 버퍼를 사용 (힙 버퍼는 GC가 바로 회수하므로
+     *               요청마다 만드는 작성기에 적합)
+     */
+    public CsvChannelWriter(WritableByteChannel channel, Charset charset, int bufferSize, boolean direct) {
+        this.channel = channel;
+        this.charset = charset;
+        this.buffer = direct ? ByteBuffer.allocateDirect(bufferSize) : ByteBuffer.allocate(bufferSize);
+    }
+    
+    /**
+     * 정수를 10진수 ASCII로 씁니다.
+     */
+    public CsvChannelWriter writeInt(int value) throws IOException {
+        return writeLong(value);
+    }
+    
+    /**
+     * long 값을 10진수 ASCII로 씁니다.
+     */
+    public CsvChannelWriter writeLong(long value) throws IOException {
+        ensure(20);
+        if (value == Long.MIN_VALUE) {
+            return writeAscii("-9223372036854775808");
+        }
+        if (value < 0) {
+            buffer.put((byte) '-');
+            value = -value;
+        }
+        
+        // 자릿수를 먼저 세고 뒤에서부터 채움
+        int digits = 1;
+        for (long v = value; v >= 10; v /= 10) {
+            digits++;
+        }
+        int end = buffer.position() + digits;
+        for (int i = end - 1; i >= buffer.position(); i--) {
+            buffer.put(i, (byte) ('0' + (int) (value % 10)));
+            value /= 10;
+        }
+        buffer.position(end);
+        return this;
+    }
+    
+    /**
+     * 날짜를 yyyy-MM-dd 형식으로 씁니다 (연도는 0~9999 범위).
+     */
+    public CsvChannelWriter writeDate(LocalDate date) throws IOException {
+        ensure(10);
+        putDigits(date.getYear(), 4);
+        buffer.put((byte) '-');
+        putDigits(date.getMonthValue(), 2);
+        buffer.put((byte) '-');
+        putDigits(date.getDayOfMonth(), 2);
+        return this;
+    }
+    
+    private void putDigits(int value, int width) {
+        int start = buffer.position();
+        for (int i = start + width - 1; i >= start; i--) {
+            buffer.put(i, (byte) ('0' + value % 10));
+            value /= 10;
+        }
+        buffer.position(start + width);
+    }
+    
+    /**
+     * 미리 인코딩된 바이트를 그대로 씁니다.
+     */
+    public CsvChannelWriter writeBytes(byte[] bytes) throws IOException {
+        if (bytes.length > buffer.capacity()) {
+            flush();
+            channelWrite(ByteBuffer.wrap(bytes));
+            return this;
+        }
+        ensure(bytes.length);
+        buffer.put(bytes);
+        return this;
+    }
+    
+    /**
+     * ASCII 전용 문자열을 씁니다.
+     */
+    public CsvChannelWriter writeAscii(String text) throws IOException {
+        for (int i = 0; i < text.length(); i++) {
+            writeByte(text.charAt(i));
+        }
+        return this;
+    }
+    
+    /**
+     * 문자열을 씁니다. ASCII 문자만 있으면 인코딩 없이 바로 버퍼에 넣습니다.
+     */
+    public CsvChannelWriter writeString(String text) throws IOException {
+        int length = text.length();
+        int i = 0;
+        while (i < length && text.charAt(i) < 0x80) {
+            i++;
+        }
+        if (i == length) {
+            return writeAscii(text);
+        }
+        return writeBytes(text.getBytes(charset));
+    }
+    
+    /**
+     * JSON 문자열 내용(따옴표 제외)을 씁니다. 이스케이프가 필요 없으면 문자열을 그대로 씁니다.
+     */
+    public CsvChannelWriter writeJsonString(String text) throws IOException {
+        int i = 0;
+        while (i < text.length() && !needsJsonEscape(text.charAt(i))) {
+            i++;
+        }
+        if (i == text.length()) {
+            return writeString(text);
+        }
+        
+        StringBuilder escaped = new StringBuilder(text.length() + 8);
+        for (int j = 0; j < text.length(); j++) {
+            char c = text.charAt(j);
+            if (c == '"' || c == '\\') {
+                escaped.append('\\').append(c);
+            } else if (c < 0x20) {
+                escaped.append(String.format("\\u%04x", (int) c));
+            } else {
+                escaped.append(c);
+            }
+        }
+        return writeString(escaped.toString());
+    }
+    
+    private static boolean needsJsonEscape(char c) {
+        return c < 0x20 || c == '"' || c == '\\';
+    }
+    
+    /**
+     * 바이트 하나를 씁니다.
+     */
+    public CsvChannelWriter writeByte(int b) throws IOException {
+        ensure(1);
+        buffer.put((byte) b);
+        return this;
+    }
+    
+    /**
+     * 줄바꿈(LF)을 씁니다.
+     */
+    public CsvChannelWriter newLine() throws IOException {
+        return writeByte('\n');
+    }
+    
+    /**
+     * 버퍼에 남은 내용을 채널로 내보냅니다.
+     */
+    public void flush() throws IOException {
+        buffer.flip();
+        channelWrite(buffer);
+        buffer.clear();
+    }
+    
+    /**
+     * 지금까지 채널로 내보낸 바이트 수를 가져옵니다.
+     */
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+    
+    private void channelWrite(ByteBuffer source) throws IOException {
+        while (source.hasRemaining()) {
+            bytesWritten += channel.write(source);
+        }
+    }
+    
+    private void ensure(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+    
+    /**
+     * 남은 내용을 내보냅니다. 채널은 호출한 쪽에서 닫습니다.
+     */
+    @Override
+    public void close() throws IOException {
+        flush();
+    }
+}
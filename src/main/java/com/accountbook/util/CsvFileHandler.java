@@ -2,22 +2,67 @@ package com.accountbook.util;
 
 import com.accountbook.model.LedgerItem;
 import java.io.*;
-import java.time.LocalDate;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 가계부 데이터의 영속성을 위한 CSV 파일 작업을 처리합니다.
  */
-public class CsvFileHandler {
+public class CsvFileHandler implements LedgerPersistence {
     
     private static final String DEFAULT_FILE_NAME = "ledger.csv";
     private static final String CSV_HEADER = "id,date,category,amount,note";
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     
+    // 저널 파일은 기본 CSV 옆에 "<파일명>.journal"로 생성됨
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final String JOURNAL_ADD = "+";
+    private static final String JOURNAL_DELETE = "-";
+    
+    // 이 크기 이상의 파일은 청크 단위 병렬 로더로 불러옴
+    private static final long PARALLEL_LOAD_THRESHOLD = 1L << 20;
+    
+    // 저장은 임시 파일에 쓴 뒤 원자적으로 교체하며, 이전 파일은 백업으로 보관
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String BACKUP_SUFFIX = ".bak";
+    private static final String DAMAGED_SUFFIX = ".damaged";
+    
+    // 손상 여부를 확인할 때 파일 끝에서 읽는 최대 크기 (마지막 줄 하나를 담기에 충분함)
+    private static final int TAIL_CHECK_BYTES = 4096;
+    
+    // FileReader와 같은 기본 문자셋으로 저장
+    private static final Charset FILE_CHARSET = Charset.defaultCharset();
+    private static final byte[][] CATEGORY_BYTES = new byte[LedgerItem.VALID_CATEGORIES.size()][];
+    
+    static {
+        for (int i = 0; i < CATEGORY_BYTES.length; i++) {
+            CATEGORY_BYTES[i] = LedgerItem.VALID_CATEGORIES.get(i).getBytes(FILE_CHARSET);
+        }
+    }
+    
     private final String fileName;
     
+    // 저장/불러오기 완료 메시지 출력 여부 (백그라운드 저장 시 끔)
+    private boolean verbose = true;
+    
+    // 읽기 전용이면 불러올 때 남은 임시 파일을 지우지 않음
+    private boolean readOnly;
+    
+    // 불러온 기본 파일이 손상 검사에 실패했으면 true (다음 저장에서 정상 백업을 이 파일로 덮어쓰지 않음)
+    private boolean liveFileDamaged;
+    
     public CsvFileHandler() {
         this.fileName = DEFAULT_FILE_NAME;
     }
@@ -30,15 +75,101 @@ public class CsvFileHandler {
      * CSV 파일에서 가계부 항목을 불러옵니다.
      * 파일이 존재하지 않거나 오류가 있으면 빈 목록을 반환합니다.
      */
+    @Override
     public List<LedgerItem> loadFromFile() {
-        List<LedgerItem> items = new ArrayList<>();
         File file = new File(fileName);
         
+        // 저장 도중 중단되어 남은 임시 파일은 완전한지 알 수 없으므로 버림
+        if (!readOnly) {
+            deleteQuietly(new File(fileName + TEMP_SUFFIX));
+        }
+        
         if (!file.exists()) {
             System.out.println("기존 데이터 파일이 없습니다. 빈 가계부로 시작합니다.");
-            return items;
+            return replayJournal(new ArrayList<LedgerItem>());
+        }
+        
+        // 마지막 줄바꿈이 없는 파일(직접 편집한 경우 흔함)은 정상으로 보며, 중간의 잘못된 줄은 일반 유효성 검사로 건너뜀
+        liveFileDamaged = isDamaged(file);
+        if (!liveFileDamaged) {
+            return replayJournal(loadCsv(file));
+        }
+        
+        File backup = new File(fileName + BACKUP_SUFFIX);
+        if (backup.exists() && !isDamaged(backup)) {
+            File damaged = new File(fileName + DAMAGED_SUFFIX);
+            System.out.printf("경고: %s의 헤더나 마지막 줄이 손상되었습니다. 백업 %s에서 불러옵니다 (손상된 파일은 %s로 보관).%n",
+                fileName, backup.getName(), damaged.getName());
+            if (!readOnly) {
+                try {
+                    Files.copy(file.toPath(), damaged.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                } catch (IOException e) {
+                    System.err.printf("손상된 파일 보관 오류: %s%n", e.getMessage());
+                }
+            }
+            return replayJournal(loadCsv(backup));
         }
         
+        System.out.printf("경고: %s의 헤더나 마지막 줄이 손상되었을 수 있으나 사용할 백업이 없어 읽을 수 있는 줄만 불러옵니다.%n",
+            fileName);
+        return replayJournal(loadCsv(file));
+    }
+    
+    /**
+     * 파일이 쓰다 만 상태인지 검사합니다. 이 클래스가 저장하는 파일은 항상 올바른 헤더로 시작하므로
+     * 비어 있거나 헤더가 다르면 손상으로 보고, 잘린 파일은 마지막 줄이 불완전하므로 마지막 줄이
+     * 파싱되지 않아도 손상으로 봅니다. 줄바꿈으로 끝나는지는 따지지 않습니다.
+     */
+    private boolean isDamaged(File file) {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            long length = raf.length();
+            byte[] header = CSV_HEADER.getBytes(FILE_CHARSET);
+            if (length < header.length) {
+                return true;
+            }
+            byte[] head = new byte[header.length];
+            raf.readFully(head);
+            if (!Arrays.equals(head, header)) {
+                return true;
+            }
+            
+            // 끝의 빈 줄을 건너뛰고 마지막 줄을 찾음 (줄바꿈 바이트는 여러 바이트 문자 안에 나오지 않음)
+            int tailLength = (int) Math.min(length - header.length, TAIL_CHECK_BYTES);
+            byte[] tail = new byte[tailLength];
+            raf.seek(length - tailLength);
+            raf.readFully(tail);
+            int end = tailLength;
+            while (end > 0 && (tail[end - 1] == '\n' || tail[end - 1] == '\r')) {
+                end--;
+            }
+            if (end == 0) {
+                // 헤더만 있는 파일 (빈 가계부)
+                return false;
+            }
+            int start = end;
+            while (start > 0 && tail[start - 1] != '\n') {
+                start--;
+            }
+            if (start == 0 && tailLength < length - header.length) {
+                // 마지막 줄이 검사 범위보다 길면 정상적인 항목일 수 없음
+                return true;
+            }
+            parseCsvLine(new String(tail, start, end - start, FILE_CHARSET));
+            return false;
+        } catch (IOException | IllegalArgumentException e) {
+            return true;
+        }
+    }
+    
+    /**
+     * CSV 파일에서 항목을 읽습니다.
+     */
+    private List<LedgerItem> loadCsv(File file) {
+        if (file.length() >= PARALLEL_LOAD_THRESHOLD) {
+            return loadChunked(file);
+        }
+        
+        List<LedgerItem> items = new ArrayList<>();
         try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
             String line = reader.readLine(); // 헤더 건너뛰기
             
@@ -60,71 +191,371 @@ public class CsvFileHandler {
                 lineNumber++;
             }
             
-            System.out.printf("%s에서 %d개의 항목을 불러왔습니다.%n", fileName, items.size());
+            if (verbose) {
+                System.out.printf("%s에서 %d개의 항목을 불러왔습니다.%n", file.getPath(), items.size());
+            }
             
         } catch (IOException e) {
-            System.err.printf("파일 %s 읽기 오류: %s%n", fileName, e.getMessage());
+            System.err.printf("파일 %s 읽기 오류: %s%n", file.getPath(), e.getMessage());
         }
         
         return items;
     }
     
+    /**
+     * 큰 파일을 청크 단위 병렬 로더로 불러옵니다.
+     */
+    private List<LedgerItem> loadChunked(File file) {
+        try {
+            ChunkedCsvLoader.LoadResult result = new ChunkedCsvLoader(CSV_HEADER).load(file.getPath());
+            
+            if (!result.isHeaderValid()) {
+                System.out.println("경고: 유효하지 않거나 누락된 CSV 헤더입니다. 빈 가계부로 시작합니다.");
+                return new ArrayList<>();
+            }
+            
+            for (String warning : result.getWarnings()) {
+                System.out.println(warning);
+            }
+            
+            if (verbose) {
+                System.out.printf("%s에서 %d개의 항목을 불러왔습니다.%n", file.getPath(), result.getItems().size());
+            }
+            return result.getItems();
+            
+        } catch (IOException e) {
+            System.err.printf("파일 %s 읽기 오류: %s%n", file.getPath(), e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+    
+    private static void deleteQuietly(File file) {
+        if (file.exists() && !file.delete()) {
+            System.err.printf("임시 파일 %s 삭제 오류%n", file.getName());
+        }
+    }
+    
     /**
      * 가계부 항목 목록을 CSV 파일에 저장합니다.
      */
+    @Override
     public boolean saveToFile(List<LedgerItem> items) {
-        try (PrintWriter writer = new PrintWriter(new FileWriter(fileName))) {
-            // 헤더 작성
-            writer.println(CSV_HEADER);
+        Path target = Paths.get(fileName);
+        Path temp = Paths.get(fileName + TEMP_SUFFIX);
+        
+        try {
+            // 임시 파일에 전체 내용을 쓰고 디스크에 강제로 기록
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                CsvChannelWriter writer = new CsvChannelWriter(channel, FILE_CHARSET);
+                
+                // 헤더 작성
+                writer.writeAscii(CSV_HEADER).newLine();
+                
+                // 데이터 작성
+                for (LedgerItem item : items) {
+                    writeCsvLine(writer, item);
+                }
+                
+                writer.flush();
+                channel.force(true);
+            }
             
-            // 데이터 작성
-            for (LedgerItem item : items) {
-                writer.println(formatCsvLine(item));
+            // 기존 파일을 백업으로 남기고 임시 파일로 원자적으로 교체.
+            // 기존 파일이 손상 검사에 실패했다면 정상 백업을 덮어쓰지 않도록 백업은 그대로 둠
+            if (!liveFileDamaged) {
+                rotateBackup(target);
             }
+            replaceAtomically(temp, target);
+            liveFileDamaged = false;
             
-            System.out.printf("%s에 %d개의 항목을 저장했습니다.%n", fileName, items.size());
-            return true;
+            if (verbose) {
+                System.out.printf("%s에 %d개의 항목을 저장했습니다.%n", fileName, items.size());
+            }
             
         } catch (IOException e) {
             System.err.printf("파일 %s 쓰기 오류: %s%n", fileName, e.getMessage());
+            deleteQuietly(temp.toFile());
+            return false;
+        }
+        
+        // 기본 파일에 모든 항목이 반영되었으므로 저널은 더 이상 필요 없음
+        return clearJournal();
+    }
+    
+    /**
+     * 새 항목을 저널 파일 끝에 추가 기록합니다.
+     * 전체 파일을 다시 쓰지 않으므로 항목 수와 관계없이 비용이 일정합니다.
+     */
+    public boolean appendToJournal(LedgerItem item) {
+        return appendJournalRecord(JOURNAL_ADD + "," + formatCsvLine(item));
+    }
+    
+    /**
+     * 삭제된 항목의 ID를 툼스톤(tombstone) 레코드로 저널에 기록합니다.
+     */
+    public boolean appendTombstone(int id) {
+        return appendJournalRecord(JOURNAL_DELETE + "," + id);
+    }
+    
+    /**
+     * 저널을 기본 CSV 파일로 병합(compaction)합니다.
+     * 전달된 항목으로 새 CSV를 작성한 뒤 저널을 비웁니다.
+     */
+    public boolean compactJournal(List<LedgerItem> items) {
+        int pending = countJournalRecords();
+        boolean saved = saveToFile(items);
+        if (saved && pending > 0) {
+            System.out.printf("저널 레코드 %d개를 %s에 병합했습니다.%n", pending, fileName);
+        }
+        return saved;
+    }
+    
+    /**
+     * 아직 병합되지 않은 저널 레코드 수를 가져옵니다.
+     */
+    public int countJournalRecords() {
+        File journal = new File(getJournalFileName());
+        if (!journal.exists()) {
+            return 0;
+        }
+        
+        int count = 0;
+        try (BufferedReader reader = new BufferedReader(new FileReader(journal))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.trim().isEmpty()) {
+                    count++;
+                }
+            }
+        } catch (IOException e) {
+            System.err.printf("저널 %s 읽기 오류: %s%n", journal.getName(), e.getMessage());
+        }
+        return count;
+    }
+    
+    /**
+     * 사용 중인 저널 파일명을 가져옵니다.
+     */
+    public String getJournalFileName() {
+        return fileName + JOURNAL_SUFFIX;
+    }
+    
+    /**
+     * 저널 레코드 한 줄을 추가 모드로 기록합니다.
+     */
+    private boolean appendJournalRecord(String record) {
+        try (PrintWriter writer = new PrintWriter(new FileWriter(getJournalFileName(), true))) {
+            writer.println(record);
+            if (writer.checkError()) {
+                throw new IOException("쓰기 중 오류가 발생했습니다.");
+            }
+            return true;
+        } catch (IOException e) {
+            System.err.printf("저널 %s 쓰기 오류: %s%n", getJournalFileName(), e.getMessage());
             return false;
         }
     }
     
+    /**
+     * 기본 파일(또는 스냅샷)에서 불러온 항목 위에 저널 레코드를 순서대로 재생합니다.
+     * 추가 레코드는 같은 ID의 항목을 덮어쓰고, 툼스톤은 해당 ID를 제거하므로
+     * 이미 저널이 반영된 목록에 다시 재생해도 결과가 같습니다.
+     */
+    public List<LedgerItem> replayJournal(List<LedgerItem> baseItems) {
+        File journal = new File(getJournalFileName());
+        if (!journal.exists()) {
+            return baseItems;
+        }
+        
+        Map<Integer, LedgerItem> byId = new LinkedHashMap<>();
+        for (LedgerItem item : baseItems) {
+            byId.put(item.getId(), item);
+        }
+        
+        int applied = 0;
+        try (BufferedReader reader = new BufferedReader(new FileReader(journal))) {
+            String line;
+            int lineNumber = 1;
+            while ((line = reader.readLine()) != null) {
+                try {
+                    if (applyJournalRecord(line, byId)) {
+                        applied++;
+                    }
+                } catch (Exception e) {
+                    System.out.printf("경고: 저널 %d번 줄의 유효하지 않은 레코드를 건너뜁니다: %s%n", lineNumber, e.getMessage());
+                }
+                lineNumber++;
+            }
+        } catch (IOException e) {
+            System.err.printf("저널 %s 읽기 오류: %s%n", journal.getName(), e.getMessage());
+            return baseItems;
+        }
+        
+        if (applied > 0) {
+            System.out.printf("%s에서 저널 레코드 %d개를 재생했습니다.%n", journal.getName(), applied);
+        }
+        return new ArrayList<>(byId.values());
+    }
+    
+    /**
+     * 저널 레코드 한 줄을 항목 맵에 반영합니다.
+     */
+    private boolean applyJournalRecord(String line, Map<Integer, LedgerItem> byId) {
+        if (line == null || line.trim().isEmpty()) {
+            return false;
+        }
+        
+        int comma = line.indexOf(',');
+        if (comma < 0) {
+            throw new IllegalArgumentException("유효하지 않은 저널 형식: " + line);
+        }
+        
+        String op = line.substring(0, comma);
+        String payload = line.substring(comma + 1);
+        
+        if (JOURNAL_ADD.equals(op)) {
+            LedgerItem item = parseCsvLine(payload);
+            byId.put(item.getId(), item);
+            return true;
+        }
+        
+        if (JOURNAL_DELETE.equals(op)) {
+            try {
+                byId.remove(Integer.parseInt(payload.trim()));
+                return true;
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("유효하지 않은 툼스톤 ID: " + payload);
+            }
+        }
+        
+        throw new IllegalArgumentException("알 수 없는 저널 명령: " + op);
+    }
+    
+    /**
+     * 저널 파일을 삭제합니다.
+     */
+    private boolean clearJournal() {
+        File journal = new File(getJournalFileName());
+        if (journal.exists() && !journal.delete()) {
+            System.err.printf("저널 %s 삭제 오류%n", journal.getName());
+            return false;
+        }
+        return true;
+    }
+    
     /**
      * CSV 한 줄을 LedgerItem 객체로 파싱합니다.
+     * 필드를 나누지 않고 쉼표 위치만 찾아 ValidationUtil의 범위 기반 파서로 읽습니다.
      */
     private LedgerItem parseCsvLine(String line) {
-        if (line == null || line.trim().isEmpty()) {
+        if (line == null) {
+            return null;
+        }
+        int lineStart = ValidationUtil.trimStart(line, 0, line.length());
+        if (lineStart == line.length()) {
             return null;
         }
         
-        String[] parts = line.split(",", -1); // -1은 비어 있는 끝 필드도 포함하기 위함
+        int[] bounds = new int[6];
+        int fields = 0;
+        bounds[0] = -1;
+        for (int i = line.indexOf(','); i >= 0; i = line.indexOf(',', i + 1)) {
+            if (++fields < 5) {
+                bounds[fields] = i;
+            }
+        }
+        fields++;
+        if (fields != 5) {
+            throw new IllegalArgumentException("CSV 줄 파싱 오류: 유효하지 않은 CSV 형식: 5개의 필드가 필요하지만, " + fields + "개가 발견되었습니다.");
+        }
+        bounds[5] = line.length();
+        
+        int id = ValidationUtil.parseDigits(line, fieldStart(line, bounds, 0), fieldEnd(line, bounds, 0));
+        if (!ValidationUtil.isValidId(id)) {
+            throw new IllegalArgumentException("CSV 줄 파싱 오류: 유효하지 않은 ID (1 이상 "
+                + ValidationUtil.MAX_ID + " 이하)");
+        }
+        
+        int date = ValidationUtil.parseDateKey(line, fieldStart(line, bounds, 1), fieldEnd(line, bounds, 1));
+        if (date < 0) {
+            throw new IllegalArgumentException("CSV 줄 파싱 오류: 유효하지 않은 날짜");
+        }
+        
+        int category = ValidationUtil.parseCategory(line, bounds[2] + 1, bounds[3]);
+        if (category < 0) {
+            throw new IllegalArgumentException("CSV 줄 파싱 오류: 유효하지 않은 카테고리: "
+                + line.substring(fieldStart(line, bounds, 2), fieldEnd(line, bounds, 2)));
+        }
         
-        if (parts.length != 5) {
-            throw new IllegalArgumentException("유효하지 않은 CSV 형식: 5개의 필드가 필요하지만, " + parts.length + "개가 발견되었습니다.");
+        int amount = ValidationUtil.parseDigits(line, fieldStart(line, bounds, 3), fieldEnd(line, bounds, 3));
+        if (amount <= 0) {
+            throw new IllegalArgumentException("CSV 줄 파싱 오류: 유효하지 않은 금액: "
+                + line.substring(fieldStart(line, bounds, 3), fieldEnd(line, bounds, 3)));
         }
         
+        String note = line.substring(fieldStart(line, bounds, 4), fieldEnd(line, bounds, 4));
+        return new LedgerItem(id, ValidationUtil.toLocalDate(date), amount,
+            LedgerItem.VALID_CATEGORIES.get(category), note);
+    }
+    
+    // bounds[f]는 f번째 필드 앞의 쉼표 위치 (첫 필드는 -1, 마지막 경계는 줄 길이)
+    private static int fieldStart(String line, int[] bounds, int f) {
+        return ValidationUtil.trimStart(line, bounds[f] + 1, bounds[f + 1]);
+    }
+    
+    private static int fieldEnd(String line, int[] bounds, int f) {
+        return ValidationUtil.trimEnd(line, bounds[f] + 1, bounds[f + 1]);
+    }
+    
+    /**
+     * LedgerItem 객체를 CSV 한 줄로 작성기에 직접 씁니다.
+     */
+    private static void writeCsvLine(CsvChannelWriter writer, LedgerItem item) throws IOException {
+        writer.writeInt(item.getId()).writeByte(',')
+            .writeDate(item.getDate()).writeByte(',')
+            .writeBytes(CATEGORY_BYTES[item.getCategoryType().ordinal()]).writeByte(',')
+            .writeInt(item.getAmount()).writeByte(',');
+        if (item.getNote() != null) {
+            writer.writeString(item.getNote());
+        }
+        writer.newLine();
+    }
+    
+    /**
+     * 현재 파일을 백업 파일로 보관합니다. 가능하면 복사 대신 하드 링크를 사용합니다.
+     */
+    private void rotateBackup(Path target) throws IOException {
+        if (!Files.exists(target)) {
+            return;
+        }
+        Path backup = Paths.get(fileName + BACKUP_SUFFIX);
+        Files.deleteIfExists(backup);
         try {
-            int id = Integer.parseInt(parts[0].trim());
-            LocalDate date = LocalDate.parse(parts[1].trim(), DATE_FORMATTER);
-            String category = parts[2].trim();
-            int amount = Integer.parseInt(parts[3].trim());
-            String note = parts[4].trim();
-            
-            // 기본 유효성 검사
-            if (!LedgerItem.isValidCategory(category)) {
-                throw new IllegalArgumentException("유효하지 않은 카테고리: " + category);
-            }
-            
-            if (amount <= 0) {
-                throw new IllegalArgumentException("유효하지 않은 금액: " + amount);
+            Files.createLink(backup, target);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(target, backup, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+    
+    /**
+     * 임시 파일을 대상 파일 위치로 원자적으로 이동하고 디렉터리 항목을 디스크에 기록합니다.
+     */
+    private static void replaceAtomically(Path temp, Path target) throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        
+        // 디렉터리 fsync는 지원하지 않는 플랫폼(Windows 등)에서는 건너뜀
+        Path dir = target.toAbsolutePath().getParent();
+        if (dir != null) {
+            try (FileChannel channel = FileChannel.open(dir, StandardOpenOption.READ)) {
+                channel.force(true);
+            } catch (IOException e) {
+                // 무시
             }
-            
-            return new LedgerItem(id, date, amount, category, note);
-            
-        } catch (Exception e) {
-            throw new IllegalArgumentException("CSV 줄 파싱 오류: " + e.getMessage());
         }
     }
     
@@ -144,13 +575,29 @@ public class CsvFileHandler {
     /**
      * 데이터 파일이 존재하는지 확인합니다.
      */
+    @Override
     public boolean fileExists() {
         return new File(fileName).exists();
     }
     
+    /**
+     * 저장/불러오기 완료 메시지 출력 여부를 설정합니다.
+     */
+    public void setVerbose(boolean verbose) {
+        this.verbose = verbose;
+    }
+    
+    /**
+     * 읽기 전용 여부를 설정합니다. 켜면 불러오기가 파일을 지우지 않습니다 (저장 차단은 호출하는 쪽의 몫).
+     */
+    public void setReadOnly(boolean readOnly) {
+        this.readOnly = readOnly;
+    }
+    
     /**
      * 사용 중인 파일명을 가져옵니다.
      */
+    @Override
     public String getFileName() {
         return fileName;
     }
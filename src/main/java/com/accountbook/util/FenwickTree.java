@@ -0,0 +1,72 @@
+package com.accountbook.util;
+
+import java.util.Arrays;
+
+/**
+ * long 값의 구간 합을 위한 펜윅 트리(Binary Indexed Tree)입니다.
+ * 점 갱신과 구간 합 조회를 모두 O(log n)에 처리하며,
+ * 범위를 벗어난 위치가 갱신되면 크기를 두 배씩 늘립니다.
+ */
+public class FenwickTree {
+    
+    private static final int INITIAL_CAPACITY = 512;
+    
+    // 1부터 시작하는 트리 배열 (길이 - 1은 항상 2의 거듭제곱)
+    private long[] tree = new long[INITIAL_CAPACITY + 1];
+    
+    /**
+     * 위치(0부터 시작)에 값을 더합니다.
+     */
+    public void add(int index, long delta) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("음수 위치: " + index);
+        }
+        while (index + 1 >= tree.length) {
+            grow();
+        }
+        for (int i = index + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+    
+    /**
+     * 위치 0부터 index(포함)까지의 합을 가져옵니다.
+     */
+    public long prefixSum(int index) {
+        if (index < 0) {
+            return 0;
+        }
+        long sum = 0;
+        for (int i = Math.min(index + 1, tree.length - 1); i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+    
+    /**
+     * from부터 to(포함)까지의 합을 가져옵니다.
+     */
+    public long rangeSum(int from, int to) {
+        if (from > to) {
+            return 0;
+        }
+        return prefixSum(to) - prefixSum(from - 1);
+    }
+    
+    /**
+     * 모든 값을 0으로 되돌립니다.
+     */
+    public void clear() {
+        Arrays.fill(tree, 0);
+    }
+    
+    /**
+     * 크기를 두 배로 늘립니다. 크기가 2의 거듭제곱이면 기존 노드는 그대로 유효하고,
+     * 새 구간의 노드는 마지막 노드(전체 합을 포함)를 제외하면 모두 0입니다.
+     */
+    private void grow() {
+        int size = tree.length - 1;
+        tree = Arrays.copyOf(tree, size * 2 + 1);
+        tree[size * 2] = tree[size];
+    }
+}
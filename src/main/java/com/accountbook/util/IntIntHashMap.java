@@ -0,0 +1,211 @@
+package com.accountbook.util;
+
+import java.util.Arrays;
+
+/**
+ * int 키를 int 값에 매핑하는 개방 주소(open addressing) 해시 맵입니다.
+ * Integer 박싱 없이 상수 시간 조회, 존재 확인, 삭제를 제공합니다.
+ * 선형 탐사와 역방향 이동(backward shift) 삭제를 사용하므로 툼스톤이 남지 않습니다.
+ */
+public class IntIntHashMap {
+    
+    // 빈 슬롯을 나타내는 키 (키 0은 별도 필드에 저장)
+    private static final int FREE_KEY = 0;
+    private static final float LOAD_FACTOR = 0.5f;
+    private static final int MIN_CAPACITY = 16;
+    
+    private final int missingValue;
+    
+    private int[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+    private int resizeAt;
+    
+    private boolean hasFreeKey;
+    private int freeKeyValue;
+    
+    /**
+     * @param missingValue 키가 없을 때 get/remove가 반환하는 값
+     */
+    public IntIntHashMap(int missingValue) {
+        this(MIN_CAPACITY, missingValue);
+    }
+    
+    public IntIntHashMap(int expectedSize, int missingValue) {
+        this.missingValue = missingValue;
+        allocate(capacityFor(expectedSize));
+    }
+    
+    /**
+     * 키에 값을 매핑하고 이전 값을 반환합니다 (없었으면 missingValue).
+     */
+    public int put(int key, int value) {
+        if (key == FREE_KEY) {
+            int previous = hasFreeKey ? freeKeyValue : missingValue;
+            if (!hasFreeKey) {
+                size++;
+            }
+            hasFreeKey = true;
+            freeKeyValue = value;
+            return previous;
+        }
+        
+        int slot = slotOf(key);
+        while (keys[slot] != FREE_KEY) {
+            if (keys[slot] == key) {
+                int previous = values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size >= resizeAt) {
+            rehash(keys.length * 2);
+        }
+        return missingValue;
+    }
+    
+    /**
+     * 키에 매핑된 값을 가져옵니다 (없으면 missingValue).
+     */
+    public int get(int key) {
+        if (key == FREE_KEY) {
+            return hasFreeKey ? freeKeyValue : missingValue;
+        }
+        
+        int slot = slotOf(key);
+        while (keys[slot] != FREE_KEY) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return missingValue;
+    }
+    
+    /**
+     * 키가 존재하는지 확인합니다.
+     */
+    public boolean containsKey(int key) {
+        if (key == FREE_KEY) {
+            return hasFreeKey;
+        }
+        
+        int slot = slotOf(key);
+        while (keys[slot] != FREE_KEY) {
+            if (keys[slot] == key) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+    
+    /**
+     * 키를 삭제하고 매핑되어 있던 값을 반환합니다 (없었으면 missingValue).
+     */
+    public int remove(int key) {
+        if (key == FREE_KEY) {
+            if (!hasFreeKey) {
+                return missingValue;
+            }
+            hasFreeKey = false;
+            size--;
+            return freeKeyValue;
+        }
+        
+        int slot = slotOf(key);
+        while (keys[slot] != FREE_KEY) {
+            if (keys[slot] == key) {
+                int previous = values[slot];
+                shiftKeys(slot);
+                size--;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return missingValue;
+    }
+    
+    /**
+     * 모든 매핑을 제거합니다.
+     */
+    public void clear() {
+        Arrays.fill(keys, FREE_KEY);
+        hasFreeKey = false;
+        size = 0;
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    /**
+     * 삭제된 슬롯 뒤의 탐사 체인을 앞으로 당겨 빈 칸을 메웁니다.
+     */
+    private void shiftKeys(int gap) {
+        int slot = (gap + 1) & mask;
+        while (keys[slot] != FREE_KEY) {
+            int home = slotOf(keys[slot]);
+            // home이 (gap, slot] 구간 밖에 있으면 gap으로 옮길 수 있음
+            boolean movable = gap <= slot
+                ? (home <= gap || home > slot)
+                : (home <= gap && home > slot);
+            if (movable) {
+                keys[gap] = keys[slot];
+                values[gap] = values[slot];
+                gap = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[gap] = FREE_KEY;
+    }
+    
+    private int slotOf(int key) {
+        int h = key * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+    
+    private void rehash(int newCapacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(newCapacity);
+        size = hasFreeKey ? 1 : 0;
+        
+        for (int i = 0; i < oldKeys.length; i++) {
+            int key = oldKeys[i];
+            if (key != FREE_KEY) {
+                int slot = slotOf(key);
+                while (keys[slot] != FREE_KEY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+                size++;
+            }
+        }
+    }
+    
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+    
+    private static int capacityFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity * LOAD_FACTOR <= expectedSize) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+}
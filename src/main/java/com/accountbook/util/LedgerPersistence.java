@@ -0,0 +1,31 @@
+package com.accountbook.util;
+
+import com.accountbook.model.LedgerItem;
+import java.util.List;
+
+/**
+ * 가계부 데이터를 저장하고 불러오는 영속성 계층의 공통 인터페이스입니다.
+ */
+public interface LedgerPersistence {
+    
+    /**
+     * 저장소에서 가계부 항목을 불러옵니다.
+     * 불러올 수 없으면 빈 목록을 반환합니다.
+     */
+    List<LedgerItem> loadFromFile();
+    
+    /**
+     * 가계부 항목 목록을 저장소에 저장합니다.
+     */
+    boolean saveToFile(List<LedgerItem> items);
+    
+    /**
+     * 저장소 파일이 존재하는지 확인합니다.
+     */
+    boolean fileExists();
+    
+    /**
+     * 사용 중인 파일명을 가져옵니다.
+     */
+    String getFileName();
+}
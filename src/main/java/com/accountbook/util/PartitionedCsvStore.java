@@ -0,0 +1,334 @@
+package com.accountbook.util;
+
+import com.accountbook.model.LedgerItem;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 가계부를 연월별 CSV 세그먼트 파일로 나누어 저장합니다.
+ *
+ * 디렉터리 구조 ("<파일명>.parts"):
+ * - manifest.csv: 첫 줄은 "nextId,N", 이후 "month,count,minId,maxId" 헤더와 세그먼트별 한 줄
+ * - yyyy-MM.csv: 해당 월 항목만 담은 일반 가계부 CSV (CsvFileHandler 형식)
+ *
+ * 목록만 읽으면 전체 항목 수, 다음 ID, 각 월의 ID 범위를 알 수 있으므로
+ * 세그먼트 파일은 필요한 월만 읽고, 저장할 때도 변경된 월만 다시 씁니다.
+ * 목록은 세그먼트보다 먼저 기록하므로, 중간에 중단되어도 이미 발급한 ID가 다시 발급되지 않습니다.
+ */
+public class PartitionedCsvStore {
+    
+    private static final String DIRECTORY_SUFFIX = ".parts";
+    private static final String MANIFEST_NAME = "manifest.csv";
+    private static final String MANIFEST_HEADER = "month,count,minId,maxId";
+    private static final String NEXT_ID_KEY = "nextId";
+    private static final String SEGMENT_SUFFIX = ".csv";
+    private static final String TEMP_SUFFIX = ".tmp";
+    
+    // CsvFileHandler와 같은 기본 문자셋
+    private static final Charset FILE_CHARSET = Charset.defaultCharset();
+    
+    /**
+     * 목록에 기록된 세그먼트 하나의 요약입니다.
+     */
+    public static class Segment {
+        
+        private final YearMonth month;
+        private final int count;
+        private final int minId;
+        private final int maxId;
+        
+        Segment(YearMonth month, int count, int minId, int maxId) {
+            this.month = month;
+            this.count = count;
+            this.minId = minId;
+            this.maxId = maxId;
+        }
+        
+        public YearMonth getMonth() {
+            return month;
+        }
+        
+        public int getCount() {
+            return count;
+        }
+        
+        /**
+         * 이 세그먼트에 주어진 ID가 있을 수 있는지 확인합니다 (ID 범위 기준).
+         */
+        public boolean mayContainId(int id) {
+            return id >= minId && id <= maxId;
+        }
+    }
+    
+    private final File directory;
+    private final File manifestFile;
+    
+    // 목록 (연월 순), 저장 스레드와 조회 스레드가 함께 사용
+    private final TreeMap<YearMonth, Segment> segments = new TreeMap<>();
+    private int nextId = 1;
+    
+    // 저장 완료 메시지 출력 여부
+    private boolean verbose = true;
+    
+    // 읽기 전용이면 세그먼트를 불러올 때 임시 파일 정리 등 어떤 파일도 바꾸지 않음
+    private boolean readOnly;
+    
+    public PartitionedCsvStore(String csvFileName) {
+        this.directory = new File(csvFileName + DIRECTORY_SUFFIX);
+        this.manifestFile = new File(directory, MANIFEST_NAME);
+    }
+    
+    /**
+     * 목록 파일이 존재하는지 확인합니다.
+     */
+    public boolean exists() {
+        return manifestFile.exists();
+    }
+    
+    /**
+     * 목록 파일을 읽습니다. 파일이 없거나 형식이 잘못되었으면 false를 반환하고 빈 목록으로 둡니다.
+     */
+    public synchronized boolean loadManifest() {
+        segments.clear();
+        nextId = 1;
+        if (!manifestFile.exists()) {
+            return false;
+        }
+        
+        try (BufferedReader reader = new BufferedReader(new FileReader(manifestFile))) {
+            String line = reader.readLine();
+            if (line == null || !line.startsWith(NEXT_ID_KEY + ",")
+                    || !MANIFEST_HEADER.equals(reader.readLine())) {
+                System.out.printf("경고: %s의 형식이 올바르지 않습니다.%n", manifestFile.getPath());
+                return false;
+            }
+            nextId = Integer.parseInt(line.substring(NEXT_ID_KEY.length() + 1).trim());
+            
+            while ((line = reader.readLine()) != null) {
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                String[] fields = line.split(",");
+                if (fields.length != 4) {
+                    throw new IllegalArgumentException("필드 수가 올바르지 않습니다: " + line);
+                }
+                YearMonth month = YearMonth.parse(fields[0].trim());
+                segments.put(month, new Segment(month, Integer.parseInt(fields[1].trim()),
+                    Integer.parseInt(fields[2].trim()), Integer.parseInt(fields[3].trim())));
+            }
+            return true;
+            
+        } catch (IOException | IllegalArgumentException | DateTimeParseException e) {
+            System.err.printf("파일 %s 읽기 오류: %s%n", manifestFile.getPath(), e.getMessage());
+            segments.clear();
+            nextId = 1;
+            return false;
+        }
+    }
+    
+    /**
+     * 목록에 기록된 다음 ID를 가져옵니다.
+     */
+    public synchronized int getNextId() {
+        return nextId;
+    }
+    
+    /**
+     * 목록에 있는 모든 연월을 오름차순으로 가져옵니다.
+     */
+    public synchronized List<YearMonth> getMonths() {
+        return new ArrayList<>(segments.keySet());
+    }
+    
+    /**
+     * 날짜 구간 [startDate, endDate]와 겹치는 연월을 가져옵니다. null은 구간의 끝이 열려 있음을 뜻합니다.
+     */
+    public synchronized List<YearMonth> getMonths(LocalDate startDate, LocalDate endDate) {
+        if (segments.isEmpty()) {
+            return new ArrayList<>();
+        }
+        YearMonth from = startDate != null ? YearMonth.from(startDate) : segments.firstKey();
+        YearMonth to = endDate != null ? YearMonth.from(endDate) : segments.lastKey();
+        if (from.isAfter(to)) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(segments.subMap(from, true, to, true).keySet());
+    }
+    
+    /**
+     * ID 범위상 주어진 ID를 담고 있을 수 있는 연월을 가져옵니다.
+     */
+    public synchronized List<YearMonth> getMonthsContaining(int id) {
+        List<YearMonth> months = new ArrayList<>();
+        for (Segment segment : segments.values()) {
+            if (segment.mayContainId(id)) {
+                months.add(segment.getMonth());
+            }
+        }
+        return months;
+    }
+    
+    /**
+     * 주어진 연월을 제외한 세그먼트의 항목 수 합계를 가져옵니다.
+     */
+    public synchronized int countExcluding(Collection<YearMonth> months) {
+        int count = 0;
+        for (Segment segment : segments.values()) {
+            if (!months.contains(segment.getMonth())) {
+                count += segment.getCount();
+            }
+        }
+        return count;
+    }
+    
+    /**
+     * 한 달치 세그먼트 파일을 읽습니다. 파일이 없으면 빈 목록을 반환합니다.
+     */
+    public List<LedgerItem> loadSegment(YearMonth month) {
+        CsvFileHandler handler = new CsvFileHandler(segmentFile(month).getPath());
+        handler.setVerbose(false);
+        handler.setReadOnly(readOnly);
+        return handler.loadFromFile();
+    }
+    
+    /**
+     * 변경된 세그먼트를 저장합니다. 항목이 없는 월은 파일과 목록에서 제거합니다.
+     * 목록을 먼저 기록한 뒤 각 세그먼트를 원자적으로 교체합니다.
+     *
+     * @param changed 연월별 전체 항목 (ID 오름차순)
+     * @param nextId 다음에 발급할 ID
+     */
+    public synchronized boolean saveSegments(Map<YearMonth, List<LedgerItem>> changed, int nextId) {
+        if (!directory.exists() && !directory.mkdirs()) {
+            System.err.printf("디렉터리 %s 생성 오류%n", directory.getPath());
+            return false;
+        }
+        
+        TreeMap<YearMonth, Segment> updated = new TreeMap<>(segments);
+        for (Map.Entry<YearMonth, List<LedgerItem>> entry : changed.entrySet()) {
+            List<LedgerItem> items = entry.getValue();
+            if (items.isEmpty()) {
+                updated.remove(entry.getKey());
+                continue;
+            }
+            int minId = Integer.MAX_VALUE;
+            int maxId = Integer.MIN_VALUE;
+            for (LedgerItem item : items) {
+                minId = Math.min(minId, item.getId());
+                maxId = Math.max(maxId, item.getId());
+            }
+            updated.put(entry.getKey(), new Segment(entry.getKey(), items.size(), minId, maxId));
+        }
+        int savedNextId = Math.max(nextId, this.nextId);
+        
+        if (!writeManifest(updated, savedNextId)) {
+            return false;
+        }
+        segments.clear();
+        segments.putAll(updated);
+        this.nextId = savedNextId;
+        
+        for (Map.Entry<YearMonth, List<LedgerItem>> entry : changed.entrySet()) {
+            File file = segmentFile(entry.getKey());
+            if (entry.getValue().isEmpty()) {
+                if (file.exists() && !file.delete()) {
+                    System.err.printf("파일 %s 삭제 오류%n", file.getPath());
+                    return false;
+                }
+                continue;
+            }
+            CsvFileHandler handler = new CsvFileHandler(file.getPath());
+            handler.setVerbose(false);
+            if (!handler.saveToFile(entry.getValue())) {
+                return false;
+            }
+        }
+        
+        if (verbose && !changed.isEmpty()) {
+            System.out.printf("%s에 %d개 월의 항목을 저장했습니다.%n", directory.getPath(), changed.size());
+        }
+        return true;
+    }
+    
+    /**
+     * 목록을 임시 파일에 쓰고 디스크에 강제로 기록한 뒤 원자적으로 교체합니다.
+     * 목록은 다음 ID가 기록되는 유일한 곳이므로 교체 후 중단되어도 비거나 이전 내용으로 남지 않아야 합니다.
+     */
+    private boolean writeManifest(TreeMap<YearMonth, Segment> manifest, int manifestNextId) {
+        StringBuilder content = new StringBuilder();
+        content.append(NEXT_ID_KEY).append(',').append(manifestNextId).append('\n');
+        content.append(MANIFEST_HEADER).append('\n');
+        for (Segment segment : manifest.values()) {
+            content.append(segment.month).append(',').append(segment.count).append(',')
+                .append(segment.minId).append(',').append(segment.maxId).append('\n');
+        }
+        
+        Path target = manifestFile.toPath();
+        Path temp = new File(directory, MANIFEST_NAME + TEMP_SUFFIX).toPath();
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer bytes = ByteBuffer.wrap(content.toString().getBytes(FILE_CHARSET));
+                while (bytes.hasRemaining()) {
+                    channel.write(bytes);
+                }
+                channel.force(true);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return true;
+        } catch (IOException e) {
+            System.err.printf("파일 %s 쓰기 오류: %s%n", manifestFile.getPath(), e.getMessage());
+            if (temp.toFile().exists() && !temp.toFile().delete()) {
+                System.err.printf("임시 파일 %s 삭제 오류%n", temp.getFileName());
+            }
+            return false;
+        }
+    }
+    
+    private File segmentFile(YearMonth month) {
+        return new File(directory, month + SEGMENT_SUFFIX);
+    }
+    
+    /**
+     * 읽기 전용 여부를 설정합니다. 켜면 세그먼트를 불러올 때 파일을 바꾸지 않습니다.
+     */
+    public void setReadOnly(boolean readOnly) {
+        this.readOnly = readOnly;
+    }
+    
+    /**
+     * 저장 완료 메시지 출력 여부를 설정합니다.
+     */
+    public void setVerbose(boolean verbose) {
+        this.verbose = verbose;
+    }
+    
+    /**
+     * 목록 파일 경로를 가져옵니다.
+     */
+    public String getFileName() {
+        return manifestFile.getPath();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,113 @@
+package com.accountbook.util;
+
+import java.util.Arrays;
+
+/**
+ * 오름차순으로 정렬된 int 값을 박싱 없이 보관하는 가변 길이 목록입니다.
+ * 대부분의 값이 증가하는 순서로 추가되므로 추가는 보통 끝에 붙이는 것으로 끝납니다.
+ */
+public class SortedIntList {
+    
+    private int[] values;
+    private int size;
+    
+    public SortedIntList() {
+        this(4);
+    }
+    
+    public SortedIntList(int initialCapacity) {
+        this.values = new int[Math.max(1, initialCapacity)];
+    }
+    
+    /**
+     * 정렬 순서를 유지하며 값을 추가합니다 (중복 허용).
+     */
+    public void add(int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        
+        if (size == 0 || values[size - 1] <= value) {
+            values[size++] = value;
+            return;
+        }
+        
+        int index = Arrays.binarySearch(values, 0, size, value);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        System.arraycopy(values, index, values, index + 1, size - index);
+        values[index] = value;
+        size++;
+    }
+    
+    /**
+     * 다른 정렬 목록의 값을 모두 추가합니다. 두 목록을 한 번에 병합하므로 길이의 합에 비례하는 시간이 듭니다.
+     */
+    public void addAll(SortedIntList other) {
+        if (other.size == 0) {
+            return;
+        }
+        if (size == 0 || values[size - 1] <= other.values[0]) {
+            if (size + other.size > values.length) {
+                values = Arrays.copyOf(values, size + other.size);
+            }
+            System.arraycopy(other.values, 0, values, size, other.size);
+            size += other.size;
+            return;
+        }
+        
+        int[] merged = new int[size + other.size];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < size && j < other.size) {
+            merged[k++] = values[i] <= other.values[j] ? values[i++] : other.values[j++];
+        }
+        while (i < size) {
+            merged[k++] = values[i++];
+        }
+        while (j < other.size) {
+            merged[k++] = other.values[j++];
+        }
+        values = merged;
+        size = k;
+    }
+    
+    /**
+     * 값 하나를 제거합니다. 제거했으면 true를 반환합니다.
+     */
+    public boolean remove(int value) {
+        int index = Arrays.binarySearch(values, 0, size, value);
+        if (index < 0) {
+            return false;
+        }
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+        return true;
+    }
+    
+    public boolean contains(int value) {
+        return Arrays.binarySearch(values, 0, size, value) >= 0;
+    }
+    
+    public int get(int index) {
+        return values[index];
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    /**
+     * 값을 target 배열의 offset 위치부터 복사하고, 복사한 개수를 반환합니다.
+     */
+    public int copyTo(int[] target, int offset) {
+        System.arraycopy(values, 0, target, offset, size);
+        return size;
+    }
+}
@@ -0,0 +1,182 @@
+package com.accountbook.util;
+
+import java.io.PrintStream;
+import java.time.LocalDate;
+
+/**
+ * 고정 폭 열로 이루어진 텍스트 표를 재사용 버퍼에 만들어 큰 덩어리로 출력하는 렌더러입니다.
+ * 행마다 printf를 호출하지 않으므로 형식 문자열 해석, 가변 인자 박싱, 출력 스트림 동기화가 없습니다.
+ *
+ * 열 너비는 생성 시 정해지며, 한글과 같은 전각 문자는 화면에서 두 칸을 차지하는 것으로 계산하여
+ * 정렬이 어긋나지 않게 합니다. 값이 열 너비보다 길면 그대로 넘쳐서 출력됩니다 (printf와 동일).
+ * 마지막 열은 뒤쪽 공백을 채우지 않습니다.
+ */
+public class TableRenderer {
+    
+    // 버퍼에 이 크기 이상 쌓이면 한 번에 출력
+    private static final int BLOCK_SIZE = 1 << 16;
+    private static final String SEPARATOR = " | ";
+    
+    private final PrintStream out;
+    private final int[] widths;
+    private final int lineWidth;
+    private final StringBuilder buffer = new StringBuilder(BLOCK_SIZE + 1024);
+    
+    // 현재 행에서 다음에 채울 열
+    private int column;
+    
+    /**
+     * @param widths 각 열의 최소 화면 너비 (칸 수)
+     */
+    public TableRenderer(PrintStream out, int... widths) {
+        if (widths.length == 0) {
+            throw new IllegalArgumentException("열이 하나 이상 필요합니다.");
+        }
+        this.out = out;
+        this.widths = widths.clone();
+        
+        int width = 1 + SEPARATOR.length() * (widths.length - 1);
+        for (int w : widths) {
+            width += w;
+        }
+        this.lineWidth = width;
+    }
+    
+    /**
+     * 문자열 셀을 추가합니다. null은 빈 문자열로 출력합니다.
+     */
+    public TableRenderer cell(String value) {
+        startCell();
+        if (value != null) {
+            buffer.append(value);
+            return pad(displayWidth(value));
+        }
+        return pad(0);
+    }
+    
+    /**
+     * 정수 셀을 추가합니다. 박싱이나 중간 문자열 없이 버퍼에 바로 씁니다.
+     */
+    public TableRenderer cell(long value) {
+        int start = startCell();
+        buffer.append(value);
+        return pad(buffer.length() - start);
+    }
+    
+    /**
+     * 날짜 셀을 yyyy-MM-dd 형식으로 추가합니다.
+     */
+    public TableRenderer cell(LocalDate date) {
+        int start = startCell();
+        buffer.append(date.getYear()).append('-');
+        appendTwoDigits(date.getMonthValue());
+        buffer.append('-');
+        appendTwoDigits(date.getDayOfMonth());
+        return pad(buffer.length() - start);
+    }
+    
+    /**
+     * 현재 행을 끝냅니다. 버퍼가 충분히 차면 출력하고, 출력 대상에 오류가 있으면 false를 반환합니다.
+     */
+    public boolean endRow() {
+        buffer.append(System.lineSeparator());
+        column = 0;
+        if (buffer.length() >= BLOCK_SIZE) {
+            return flush();
+        }
+        return true;
+    }
+    
+    /**
+     * 표 전체 너비의 구분선을 추가합니다.
+     */
+    public TableRenderer rule(char c) {
+        for (int i = 0; i < lineWidth; i++) {
+            buffer.append(c);
+        }
+        buffer.append(System.lineSeparator());
+        return this;
+    }
+    
+    /**
+     * 표와 상관없는 한 줄(예: 합계 안내)을 추가합니다.
+     */
+    public TableRenderer line(String text) {
+        buffer.append(text).append(System.lineSeparator());
+        return this;
+    }
+    
+    /**
+     * 버퍼의 내용을 출력합니다. 출력 대상에 오류가 있으면(예: 페이저가 종료됨) false를 반환합니다.
+     */
+    public boolean flush() {
+        if (buffer.length() > 0) {
+            out.append(buffer);
+            buffer.setLength(0);
+        }
+        out.flush();
+        return !out.checkError();
+    }
+    
+    /**
+     * 문자열이 고정 폭 터미널에서 차지하는 칸 수를 계산합니다.
+     */
+    public static int displayWidth(CharSequence text) {
+        int width = 0;
+        for (int i = 0, length = text.length(); i < length; i++) {
+            char c = text.charAt(i);
+            width += c < 0x300 ? (c >= ' ' ? 1 : 0) : charWidth(c);
+        }
+        return width;
+    }
+    
+    /**
+     * 문자 하나의 화면 너비를 가져옵니다. 한글, 한자, 전각 기호는 2칸, 결합 문자와 제어 문자는 0칸입니다.
+     * 보조 평면 문자(이모지 등)는 상위 서로게이트에서 2칸으로 계산합니다.
+     */
+    public static int charWidth(char c) {
+        if (c < ' ') {
+            return 0;
+        }
+        if (c < 0x300) {
+            return 1;
+        }
+        if (c <= 0x36F || (c >= 0x200B && c <= 0x200F) || Character.isLowSurrogate(c)) {
+            return 0;
+        }
+        if ((c >= 0x1100 && c <= 0x115F)           // 한글 자모 (초성)
+            || (c >= 0x2E80 && c <= 0xA4CF && c != 0x303F) // CJK 기호, 한자, 호환 자모
+            || (c >= 0xAC00 && c <= 0xD7A3)        // 한글 음절
+            || (c >= 0xF900 && c <= 0xFAFF)        // CJK 호환 한자
+            || (c >= 0xFE30 && c <= 0xFE4F)        // CJK 호환 형태
+            || (c >= 0xFF00 && c <= 0xFF60)        // 전각 문자
+            || (c >= 0xFFE0 && c <= 0xFFE6)
+            || Character.isHighSurrogate(c)) {
+            return 2;
+        }
+        return 1;
+    }
+    
+    private int startCell() {
+        if (column == 0) {
+            buffer.append(' ');
+        } else {
+            buffer.append(SEPARATOR);
+        }
+        return buffer.length();
+    }
+    
+    private TableRenderer pad(int width) {
+        if (column < widths.length - 1) {
+            for (int i = width; i < widths[column]; i++) {
+                buffer.append(' ');
+            }
+        }
+        column++;
+        return this;
+    }
+    
+    private void appendTwoDigits(int value) {
+        buffer.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,105 @@
+package com.accountbook.util;
+
+/**
+ * 값이 가장 큰 k개의 (값, ID) 쌍을 고르는 크기 제한 최소 힙입니다.
+ * 기본형 배열만 사용하므로 O(k) 메모리로 동작하며, n개를 넣는 데 O(n log k)가 걸립니다.
+ * 값이 같으면 ID가 작은 쪽을 우선합니다.
+ */
+public class TopKSelector {
+    
+    private final int k;
+    private final int[] values;
+    private final int[] ids;
+    private int size;
+    
+    public TopKSelector(int k) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("k는 1 이상이어야 합니다: " + k);
+        }
+        this.k = k;
+        this.values = new int[k];
+        this.ids = new int[k];
+    }
+    
+    /**
+     * 후보를 넣습니다. 힙이 가득 찼고 후보가 현재 k번째보다 작으면 O(1)에 버립니다.
+     */
+    public void offer(int value, int id) {
+        if (size < k) {
+            values[size] = value;
+            ids[size] = id;
+            siftUp(size++);
+        } else if (before(value, id, values[0], ids[0])) {
+            values[0] = value;
+            ids[0] = id;
+            siftDown(0);
+        }
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * 선택된 ID를 값 내림차순(같으면 ID 오름차순)으로 가져옵니다. 호출 후 선택기는 비워집니다.
+     */
+    public int[] drainDescending() {
+        int[] result = new int[size];
+        for (int i = size - 1; i >= 0; i--) {
+            result[i] = ids[0];
+            size--;
+            values[0] = values[size];
+            ids[0] = ids[size];
+            siftDown(0);
+        }
+        return result;
+    }
+    
+    /**
+     * (a값, a ID)가 (b값, b ID)보다 앞 순위인지 확인합니다.
+     */
+    private static boolean before(int aValue, int aId, int bValue, int bId) {
+        return aValue != bValue ? aValue > bValue : aId < bId;
+    }
+    
+    // 루트에는 가장 뒤 순위(k번째) 항목이 옴
+    
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!before(values[parent], ids[parent], values[index], ids[index])) {
+                return;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+    
+    private void siftDown(int index) {
+        while (true) {
+            int left = index * 2 + 1;
+            if (left >= size) {
+                return;
+            }
+            int worst = left;
+            int right = left + 1;
+            if (right < size && before(values[left], ids[left], values[right], ids[right])) {
+                worst = right;
+            }
+            if (!before(values[index], ids[index], values[worst], ids[worst])) {
+                return;
+            }
+            swap(index, worst);
+            index = worst;
+        }
+    }
+    
+    private void swap(int a, int b) {
+        int value = values[a];
+        values[a] = values[b];
+        values[b] = value;
+        int id = ids[a];
+        ids[a] = ids[b];
+        ids[b] = id;
+    }
+}
@@ -1,19 +1,62 @@
 package com.accountbook.util;
 
+import com.accountbook.model.Category;
 import com.accountbook.model.LedgerItem;
+import java.nio.ByteBuffer;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 
 /**
  * 프로젝트 요구사항에 따른 입력 유효성 검사를 위한 유틸리티 클래스입니다.
+ *
+ * validate* 메서드는 CLI 입력용으로 메시지가 담긴 ValidationResult를 반환합니다.
+ * 대량 가져오기와 CSV 파싱은 그 아래의 저수준 API(parse*, checkNote)를 사용합니다.
+ * 저수준 API는 문자열이나 바이트 버퍼의 [from, to) 범위를 직접 읽고, 값 또는
+ * 음수 오류 코드를 기본형으로 반환하므로 호출마다 객체를 만들지 않습니다.
  */
 public class ValidationUtil {
     
-    private static final LocalDate MIN_DATE = LocalDate.of(2025, 10, 1);
+    public static final LocalDate MIN_DATE = LocalDate.of(2025, 10, 1);
     private static final int MAX_AMOUNT = 100_000_000;
+    
+    // ID 상한: 인덱스 비트맵이 가장 큰 ID에 비례하는 크기를 가지므로 제한 (비트맵 하나당 최대 약 1.2MB)
+    public static final int MAX_ID = 10_000_000;
     private static final int MAX_NOTE_LENGTH = 50;
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final int MIN_EPOCH_DAY = (int) MIN_DATE.toEpochDay();
+    
+    // 저수준 API의 오류 코드 (모두 음수이므로 정상 값과 구분됨)
+    public static final int OK = 0;
+    public static final int ERROR_EMPTY = -1;
+    public static final int ERROR_FORMAT = -2;
+    public static final int ERROR_LEADING_ZERO = -3;
+    public static final int ERROR_NOT_POSITIVE = -4;
+    public static final int ERROR_TOO_LARGE = -5;
+    public static final int ERROR_TOO_EARLY = -6;
+    public static final int ERROR_UNKNOWN_CATEGORY = -7;
+    public static final int ERROR_TOO_LONG = -8;
+    public static final int ERROR_SPECIAL_ONLY = -9;
+    public static final int ERROR_INVALID_CHAR = -10;
+    
+    private static final String CATEGORY_ERROR =
+        "카테고리는 다음 중 하나여야 합니다: " + String.join(", ", LedgerItem.VALID_CATEGORIES);
+    
+    // 메모에서 "특수문자가 아닌" ASCII 문자 표 ([a-zA-Z0-9] 및 \s)
+    private static final boolean[] PLAIN_ASCII = new boolean[128];
+    
+    // 1970-01-01 이전 일수 (0000-01-01 기준)
+    private static final int DAYS_0000_TO_1970 = 719_528;
+    
+    static {
+        for (char c = '0'; c <= '9'; c++) {
+            PLAIN_ASCII[c] = true;
+        }
+        for (char c = 'a'; c <= 'z'; c++) {
+            PLAIN_ASCII[c] = true;
+            PLAIN_ASCII[c - 'a' + 'A'] = true;
+        }
+        for (char c : new char[] {' ', '\t', '\n', '\u000B', '\f', '\r'}) {
+            PLAIN_ASCII[c] = true;
+        }
+    }
     
     /**
      * 요구사항에 따라 날짜 입력을 검증합니다:
@@ -21,21 +64,11 @@ public class ValidationUtil {
      * - 범위: 2025-10-01 이후여야 함
      */
     public static ValidationResult validateDate(String dateStr) {
-        if (dateStr == null || dateStr.trim().isEmpty()) {
-            return new ValidationResult(false, "날짜는 비워둘 수 없습니다.");
-        }
-        
-        try {
-            LocalDate date = LocalDate.parse(dateStr.trim(), DATE_FORMATTER);
-            
-            if (date.isBefore(MIN_DATE)) {
-                return new ValidationResult(false, "날짜는 2025-10-01 이후여야 합니다.");
-            }
-            
-            return new ValidationResult(true, null, date);
-        } catch (DateTimeParseException e) {
-            return new ValidationResult(false, "유효하지 않은 날짜 형식입니다. YYYY-MM-DD 형식을 사용해주세요.");
+        int epochDay = dateStr == null ? ERROR_EMPTY : parseDate(dateStr, 0, dateStr.length());
+        if (epochDay < 0) {
+            return new ValidationResult(false, dateErrorMessage(epochDay));
         }
+        return new ValidationResult(true, null, LocalDate.ofEpochDay(epochDay));
     }
     
     /**
@@ -45,32 +78,11 @@ public class ValidationUtil {
      * - 최대값: 100,000,000
      */
     public static ValidationResult validateAmount(String amountStr) {
-        if (amountStr == null || amountStr.trim().isEmpty()) {
-            return new ValidationResult(false, "금액은 비워둘 수 없습니다.");
-        }
-        
-        String trimmed = amountStr.trim();
-        
-        // 선행 0 확인 ("0" 제외)
-        if (trimmed.length() > 1 && trimmed.startsWith("0")) {
-            return new ValidationResult(false, "금액은 선행 0을 가질 수 없습니다.");
-        }
-        
-        try {
-            int amount = Integer.parseInt(trimmed);
-            
-            if (amount <= 0) {
-                return new ValidationResult(false, "금액은 양수여야 합니다.");
-            }
-            
-            if (amount > MAX_AMOUNT) {
-                return new ValidationResult(false, "금액은 100,000,000을 초과할 수 없습니다.");
-            }
-            
-            return new ValidationResult(true, null, amount);
-        } catch (NumberFormatException e) {
-            return new ValidationResult(false, "금액은 유효한 양의 정수여야 합니다.");
+        int amount = amountStr == null ? ERROR_EMPTY : parseAmount(amountStr, 0, amountStr.length());
+        if (amount < 0) {
+            return new ValidationResult(false, amountErrorMessage(amount));
         }
+        return new ValidationResult(true, null, amount);
     }
     
     /**
@@ -78,64 +90,394 @@ public class ValidationUtil {
      * - 미리 정의된 값 중 하나여야 함
      */
     public static ValidationResult validateCategory(String category) {
-        if (category == null || category.trim().isEmpty()) {
-            return new ValidationResult(false, "카테고리는 비워둘 수 없습니다.");
-        }
-        
-        String trimmed = category.trim();
-        
-        if (!LedgerItem.isValidCategory(trimmed)) {
-            return new ValidationResult(false, 
-                "카테고리는 다음 중 하나여야 합니다: " + String.join(", ", LedgerItem.VALID_CATEGORIES));
+        int ordinal = category == null ? ERROR_EMPTY : parseCategory(category, 0, category.length());
+        if (ordinal < 0) {
+            return new ValidationResult(false, categoryErrorMessage(ordinal));
         }
-        
-        return new ValidationResult(true, null, trimmed);
+        return new ValidationResult(true, null, Category.fromOrdinal(ordinal).getName());
     }
     
     /**
      * 요구사항에 따라 메모 입력을 검증합니다:
      * - 문자열, 최대 50자
      * - 특수문자로만 구성될 수 없음
+     * - 쉼표와 제어 문자(줄바꿈 등)는 CSV 한 줄을 깨뜨리므로 사용할 수 없음
      */
     public static ValidationResult validateNote(String note) {
         if (note == null) {
             return new ValidationResult(true, null, "");
         }
         
-        String trimmed = note.trim();
+        int code = checkNote(note, 0, note.length());
+        if (code < 0) {
+            return new ValidationResult(false, noteErrorMessage(code));
+        }
+        return new ValidationResult(true, null, note.trim());
+    }
+    
+    /**
+     * 메뉴 옵션 입력을 검증합니다.
+     */
+    public static ValidationResult validateMenuOption(String input, int minOption, int maxOption) {
+        if (input == null || trimStart(input, 0, input.length()) == input.length()) {
+            return new ValidationResult(false, "유효한 옵션을 입력해주세요.");
+        }
         
-        if (trimmed.length() > MAX_NOTE_LENGTH) {
-            return new ValidationResult(false, "메모는 50자를 초과할 수 없습니다.");
+        int from = trimStart(input, 0, input.length());
+        int to = trimEnd(input, from, input.length());
+        long option = parseSignedInt(input, from, to);
+        if (option == Long.MIN_VALUE) {
+            return new ValidationResult(false, "유효한 숫자를 입력해주세요.");
         }
         
-        // 메모가 특수문자로만 구성되었는지 확인
-        if (!trimmed.isEmpty() && trimmed.matches("^[^a-zA-Z0-9\\s]+$")) {
-            return new ValidationResult(false, "메모는 특수문자로만 구성될 수 없습니다.");
+        if (option < minOption || option > maxOption) {
+            return new ValidationResult(false, 
+                String.format("숫자를 %d와 %d 사이로 입력해주세요.", minOption, maxOption));
         }
         
-        return new ValidationResult(true, null, trimmed);
+        return new ValidationResult(true, null, (int) option);
     }
     
+    // ---- 저수준 API ----
+    
     /**
-     * 메뉴 옵션 입력을 검증합니다.
+     * 날짜를 검증하고 epoch-day를 반환합니다 (앞뒤 공백 무시).
+     * 오류 시 ERROR_EMPTY, ERROR_FORMAT, ERROR_TOO_EARLY를 반환합니다.
      */
-    public static ValidationResult validateMenuOption(String input, int minOption, int maxOption) {
-        if (input == null || input.trim().isEmpty()) {
-            return new ValidationResult(false, "유효한 옵션을 입력해주세요.");
+    public static int parseDate(CharSequence text, int from, int to) {
+        from = trimStart(text, from, to);
+        to = trimEnd(text, from, to);
+        if (from == to) {
+            return ERROR_EMPTY;
+        }
+        int key = parseDateKey(text, from, to);
+        if (key < 0) {
+            return key;
+        }
+        int epochDay = toEpochDay(key);
+        return epochDay < MIN_EPOCH_DAY ? ERROR_TOO_EARLY : epochDay;
+    }
+    
+    /**
+     * 금액을 검증하고 값을 반환합니다 (앞뒤 공백 무시).
+     * 오류 시 ERROR_EMPTY, ERROR_LEADING_ZERO, ERROR_FORMAT, ERROR_NOT_POSITIVE, ERROR_TOO_LARGE를 반환합니다.
+     */
+    public static int parseAmount(CharSequence text, int from, int to) {
+        from = trimStart(text, from, to);
+        to = trimEnd(text, from, to);
+        if (from == to) {
+            return ERROR_EMPTY;
+        }
+        // 선행 0 확인 ("0" 제외)
+        if (to - from > 1 && text.charAt(from) == '0') {
+            return ERROR_LEADING_ZERO;
         }
         
-        try {
-            int option = Integer.parseInt(input.trim());
-            
-            if (option < minOption || option > maxOption) {
-                return new ValidationResult(false, 
-                    String.format("숫자를 %d와 %d 사이로 입력해주세요.", minOption, maxOption));
+        long amount = parseSignedInt(text, from, to);
+        if (amount == Long.MIN_VALUE) {
+            return ERROR_FORMAT;
+        }
+        if (amount <= 0) {
+            return ERROR_NOT_POSITIVE;
+        }
+        return amount > MAX_AMOUNT ? ERROR_TOO_LARGE : (int) amount;
+    }
+    
+    /**
+     * 카테고리 이름을 검증하고 서수를 반환합니다 (앞뒤 공백 무시, 대소문자 구분).
+     * 오류 시 ERROR_EMPTY, ERROR_UNKNOWN_CATEGORY를 반환합니다.
+     */
+    public static int parseCategory(CharSequence text, int from, int to) {
+        from = trimStart(text, from, to);
+        to = trimEnd(text, from, to);
+        if (from == to) {
+            return ERROR_EMPTY;
+        }
+        int length = to - from;
+        for (int c = 0; c < Category.count(); c++) {
+            String name = Category.fromOrdinal(c).getName();
+            if (name.length() != length) {
+                continue;
             }
-            
-            return new ValidationResult(true, null, option);
-        } catch (NumberFormatException e) {
-            return new ValidationResult(false, "유효한 숫자를 입력해주세요.");
+            int i = 0;
+            while (i < length && text.charAt(from + i) == name.charAt(i)) {
+                i++;
+            }
+            if (i == length) {
+                return c;
+            }
+        }
+        return ERROR_UNKNOWN_CATEGORY;
+    }
+    
+    /**
+     * 메모를 검증합니다 (앞뒤 공백 무시). 통과하면 OK,
+     * 아니면 ERROR_TOO_LONG, ERROR_INVALID_CHAR, ERROR_SPECIAL_ONLY를 반환합니다.
+     * 메모는 CSV의 마지막 필드로 그대로 기록되므로 쉼표와 제어 문자를 허용하지 않습니다.
+     */
+    public static int checkNote(CharSequence text, int from, int to) {
+        from = trimStart(text, from, to);
+        to = trimEnd(text, from, to);
+        if (to - from > MAX_NOTE_LENGTH) {
+            return ERROR_TOO_LONG;
         }
+        boolean plain = false;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c == ',' || (Character.isISOControl(c) && c != '\t')) {
+                return ERROR_INVALID_CHAR;
+            }
+            if (c < 128 && PLAIN_ASCII[c]) {
+                plain = true;
+            }
+        }
+        // 비어 있지 않은데 일반 문자가 하나도 없으면 특수문자로만 구성된 메모
+        return plain || from == to ? OK : ERROR_SPECIAL_ONLY;
+    }
+    
+    /**
+     * ID가 1 이상 MAX_ID 이하인지 확인합니다.
+     */
+    public static boolean isValidId(int id) {
+        return id > 0 && id <= MAX_ID;
+    }
+    
+    /**
+     * 부호 없는 10진수 정수를 파싱합니다 (공백 불허, 선행 0 허용).
+     * 숫자가 아니거나 int 범위를 넘으면 ERROR_FORMAT을 반환합니다.
+     */
+    public static int parseDigits(CharSequence text, int from, int to) {
+        if (from == to || to - from > 10) {
+            return ERROR_FORMAT;
+        }
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            int d = text.charAt(i) - '0';
+            if (d < 0 || d > 9) {
+                return ERROR_FORMAT;
+            }
+            value = value * 10 + d;
+        }
+        return value > Integer.MAX_VALUE ? ERROR_FORMAT : (int) value;
+    }
+    
+    /**
+     * ASCII 바이트 범위를 부호 없는 10진수 정수로 파싱합니다 (parseDigits와 같은 규칙).
+     */
+    public static int parseDigits(ByteBuffer buf, int from, int to) {
+        if (from == to || to - from > 10) {
+            return ERROR_FORMAT;
+        }
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            int d = buf.get(i) - '0';
+            if (d < 0 || d > 9) {
+                return ERROR_FORMAT;
+            }
+            value = value * 10 + d;
+        }
+        return value > Integer.MAX_VALUE ? ERROR_FORMAT : (int) value;
+    }
+    
+    /**
+     * yyyy-MM-dd 형식(공백 불허)을 yyyyMMdd 정수 키로 파싱합니다.
+     * 형식이 틀리거나 존재하지 않는 날짜(예: 2월 30일)면 ERROR_FORMAT을 반환합니다.
+     */
+    public static int parseDateKey(CharSequence text, int from, int to) {
+        if (to - from != 10 || text.charAt(from + 4) != '-' || text.charAt(from + 7) != '-') {
+            return ERROR_FORMAT;
+        }
+        int year = 0;
+        int month = 0;
+        int day = 0;
+        for (int i = 0; i < 10; i++) {
+            if (i == 4 || i == 7) {
+                continue;
+            }
+            int d = text.charAt(from + i) - '0';
+            if (d < 0 || d > 9) {
+                return ERROR_FORMAT;
+            }
+            if (i < 4) {
+                year = year * 10 + d;
+            } else if (i < 7) {
+                month = month * 10 + d;
+            } else {
+                day = day * 10 + d;
+            }
+        }
+        return dateKey(year, month, day);
+    }
+    
+    /**
+     * ASCII 바이트 범위를 yyyyMMdd 정수 키로 파싱합니다 (parseDateKey와 같은 규칙).
+     */
+    public static int parseDateKey(ByteBuffer buf, int from, int to) {
+        if (to - from != 10 || buf.get(from + 4) != '-' || buf.get(from + 7) != '-') {
+            return ERROR_FORMAT;
+        }
+        int year = 0;
+        int month = 0;
+        int day = 0;
+        for (int i = 0; i < 10; i++) {
+            if (i == 4 || i == 7) {
+                continue;
+            }
+            int d = buf.get(from + i) - '0';
+            if (d < 0 || d > 9) {
+                return ERROR_FORMAT;
+            }
+            if (i < 4) {
+                year = year * 10 + d;
+            } else if (i < 7) {
+                month = month * 10 + d;
+            } else {
+                day = day * 10 + d;
+            }
+        }
+        return dateKey(year, month, day);
+    }
+    
+    /**
+     * yyyyMMdd 키를 epoch-day로 변환합니다 (LocalDate.toEpochDay와 같은 계산, 0년 이후).
+     */
+    public static int toEpochDay(int dateKey) {
+        int year = dateKey / 10000;
+        int month = dateKey / 100 % 100;
+        int day = dateKey % 100;
+        
+        int total = 365 * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!isLeapYear(year)) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+    
+    /**
+     * yyyyMMdd 키를 LocalDate로 변환합니다.
+     */
+    public static LocalDate toLocalDate(int dateKey) {
+        return LocalDate.of(dateKey / 10000, dateKey / 100 % 100, dateKey % 100);
+    }
+    
+    /**
+     * 범위 앞쪽의 공백(String.trim과 같은 기준)을 건너뛴 위치를 반환합니다.
+     */
+    public static int trimStart(CharSequence text, int from, int to) {
+        while (from < to && text.charAt(from) <= ' ') {
+            from++;
+        }
+        return from;
+    }
+    
+    /**
+     * 범위 뒤쪽의 공백을 제외한 끝 위치를 반환합니다.
+     */
+    public static int trimEnd(CharSequence text, int from, int to) {
+        while (to > from && text.charAt(to - 1) <= ' ') {
+            to--;
+        }
+        return to;
+    }
+    
+    // ---- 오류 코드 -> 메시지 ----
+    
+    public static String dateErrorMessage(int code) {
+        switch (code) {
+            case ERROR_EMPTY:
+                return "날짜는 비워둘 수 없습니다.";
+            case ERROR_TOO_EARLY:
+                return "날짜는 2025-10-01 이후여야 합니다.";
+            default:
+                return "유효하지 않은 날짜 형식입니다. YYYY-MM-DD 형식을 사용해주세요.";
+        }
+    }
+    
+    public static String amountErrorMessage(int code) {
+        switch (code) {
+            case ERROR_EMPTY:
+                return "금액은 비워둘 수 없습니다.";
+            case ERROR_LEADING_ZERO:
+                return "금액은 선행 0을 가질 수 없습니다.";
+            case ERROR_NOT_POSITIVE:
+                return "금액은 양수여야 합니다.";
+            case ERROR_TOO_LARGE:
+                return "금액은 100,000,000을 초과할 수 없습니다.";
+            default:
+                return "금액은 유효한 양의 정수여야 합니다.";
+        }
+    }
+    
+    public static String categoryErrorMessage(int code) {
+        return code == ERROR_EMPTY ? "카테고리는 비워둘 수 없습니다." : CATEGORY_ERROR;
+    }
+    
+    public static String noteErrorMessage(int code) {
+        switch (code) {
+            case ERROR_TOO_LONG:
+                return "메모는 50자를 초과할 수 없습니다.";
+            case ERROR_INVALID_CHAR:
+                return "메모에는 쉼표나 줄바꿈 같은 제어 문자를 사용할 수 없습니다.";
+            default:
+                return "메모는 특수문자로만 구성될 수 없습니다.";
+        }
+    }
+    
+    /**
+     * Integer.parseInt와 같은 규칙(선택적 +/- 부호, ASCII 숫자)으로 파싱합니다.
+     * 실패하거나 int 범위를 넘으면 Long.MIN_VALUE를 반환합니다.
+     */
+    private static long parseSignedInt(CharSequence text, int from, int to) {
+        boolean negative = false;
+        if (from < to && (text.charAt(from) == '-' || text.charAt(from) == '+')) {
+            negative = text.charAt(from) == '-';
+            from++;
+        }
+        if (from == to || to - from > 10) {
+            return Long.MIN_VALUE;
+        }
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            int d = text.charAt(i) - '0';
+            if (d < 0 || d > 9) {
+                return Long.MIN_VALUE;
+            }
+            value = value * 10 + d;
+        }
+        if (negative) {
+            value = -value;
+        }
+        return value < Integer.MIN_VALUE || value > Integer.MAX_VALUE ? Long.MIN_VALUE : value;
+    }
+    
+    private static int dateKey(int year, int month, int day) {
+        if (month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            return ERROR_FORMAT;
+        }
+        return year * 10000 + month * 100 + day;
+    }
+    
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+    
+    private static boolean isLeapYear(int year) {
+        return (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
     }
     
     /**